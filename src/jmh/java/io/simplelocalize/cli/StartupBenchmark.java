@@ -0,0 +1,163 @@
+package io.simplelocalize.cli;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares wall-clock time of whole CLI runs on the JVM (shaded jar) and as a native executable.
+ * Commands talk to a stand-in SimpleLocalize server on localhost, set with 'baseUrl' in the configuration file,
+ * so the numbers show startup and work of the CLI, not network latency.
+ * Build both executables first: ./mvnw -Pnative package -DskipTests (GraalVM as JAVA_HOME),
+ * then run: ./mvnw -Pbenchmark package exec:exec -DskipTests -Dbenchmark=StartupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark
+{
+  private static final Path TARGET_DIRECTORY = Path.of("target").toAbsolutePath();
+  private static final Path SEARCH_DIRECTORY = Path.of("src", "test", "resources", "react-intl").toAbsolutePath();
+  private static final String EXECUTABLE_NAME = "simplelocalize-cli";
+  private static final List<String> LANGUAGES = List.of("en", "de", "pl");
+
+  @Param({"jvm", "native"})
+  private String runtime;
+
+  @Param({"version", "extract", "download"})
+  private String command;
+
+  private HttpServer server;
+  private Path workDirectory;
+  private List<String> commandLine;
+
+  @Setup
+  public void setUp() throws IOException
+  {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    String baseUrl = "http://localhost:" + server.getAddress().getPort();
+    server.createContext("/cli/v1/keys", exchange -> respond(exchange, "{\"data\":{\"uniqueKeysProcessed\":0}}"));
+    server.createContext("/cli/v2/download", exchange -> respond(exchange, exportResponse(baseUrl)));
+    server.createContext("/files/", exchange -> respond(exchange, "{\"HELLO_WORLD\":\"Hello world\"}"));
+    server.start();
+
+    workDirectory = Files.createTempDirectory("startup-benchmark");
+    Path configurationPath = workDirectory.resolve("simplelocalize.yml");
+    Files.writeString(configurationPath, String.join("\n",
+            "apiKey: benchmark",
+            "baseUrl: " + baseUrl,
+            "projectType: yahoo/react-intl",
+            "searchDir: '" + SEARCH_DIRECTORY + "'",
+            "downloadPath: ./translations/{lang}/messages.json",
+            "downloadFormat: single-language-json",
+            ""));
+
+    commandLine = new ArrayList<>(executable());
+    commandLine.add("--config=" + configurationPath);
+    commandLine.add(command.equals("version") ? "--version" : command);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException
+  {
+    server.stop(0);
+    try (Stream<Path> paths = Files.walk(workDirectory))
+    {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+      {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public int runCommand() throws Exception
+  {
+    Process process = new ProcessBuilder(commandLine)
+            .directory(workDirectory.toFile())
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+    int exitCode = process.waitFor();
+    if (exitCode != 0)
+    {
+      throw new IllegalStateException("Command failed with exit code " + exitCode + ": " + commandLine);
+    }
+    return exitCode;
+  }
+
+  private List<String> executable() throws IOException
+  {
+    if (runtime.equals("native"))
+    {
+      Path executable = TARGET_DIRECTORY.resolve(EXECUTABLE_NAME);
+      if (!Files.isExecutable(executable))
+      {
+        throw new IllegalStateException("Native executable not found: " + executable + ", build it with './mvnw -Pnative package' or run with '-p runtime=jvm'");
+      }
+      return List.of(executable.toString());
+    }
+    String java = ProcessHandle.current().info().command().orElse("java");
+    try (Stream<Path> files = Files.list(TARGET_DIRECTORY))
+    {
+      Path jar = files
+              .filter(file -> file.getFileName().toString().matches(EXECUTABLE_NAME + "-[0-9.]+(-SNAPSHOT)?\\.jar"))
+              .findFirst()
+              .orElseThrow(() -> new IllegalStateException("Jar not found in " + TARGET_DIRECTORY + ", build it with './mvnw package'"));
+      return List.of(java, "-jar", jar.toString());
+    }
+  }
+
+  private static String exportResponse(String baseUrl)
+  {
+    List<String> files = new ArrayList<>();
+    for (String language : LANGUAGES)
+    {
+      files.add("{\"url\":\"" + baseUrl + "/files/" + language + ".json\",\"language\":\"" + language + "\"}");
+    }
+    return "{\"files\":[" + String.join(",", files) + "]}";
+  }
+
+  private static void respond(HttpExchange exchange, String body) throws IOException
+  {
+    try (InputStream requestBody = exchange.getRequestBody())
+    {
+      requestBody.readAllBytes();
+    }
+    byte[] response = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, response.length);
+    try (OutputStream responseBody = exchange.getResponseBody())
+    {
+      responseBody.write(response);
+    }
+  }
+}
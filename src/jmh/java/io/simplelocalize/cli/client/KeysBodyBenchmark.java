@@ -0,0 +1,100 @@
+package io.simplelocalize.cli.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the previous "DTO set + String" keys payload with the streaming one.
+ * Run with the 'gc' profiler to see gc.alloc.rate.norm per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeysBodyBenchmark
+{
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Param({"10000", "200000"})
+  private int keysCount;
+
+  private Set<String> keys;
+
+  @Setup
+  public void setUp()
+  {
+    keys = IntStream.range(0, keysCount)
+            .mapToObj(i -> "PAGE_" + (i % 100) + ".SECTION.TRANSLATION_KEY_" + i)
+            .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  @Benchmark
+  public void stringBody(Blackhole blackhole) throws Exception
+  {
+    Set<Map<String, String>> content = keys.stream()
+            .map(key -> Map.of("key", key))
+            .collect(Collectors.toSet());
+    String json = objectMapper.writeValueAsString(Map.of("content", content));
+    drain(HttpRequest.BodyPublishers.ofString(json), blackhole);
+  }
+
+  @Benchmark
+  public void streamingBody(Blackhole blackhole)
+  {
+    drain(ClientBodyBuilders.ofKeysBody(keys), blackhole);
+  }
+
+  private static void drain(HttpRequest.BodyPublisher publisher, Blackhole blackhole)
+  {
+    publisher.subscribe(new Flow.Subscriber<>()
+    {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription)
+      {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(ByteBuffer item)
+      {
+        blackhole.consume(item.remaining());
+      }
+
+      @Override
+      public void onError(Throwable throwable)
+      {
+        throw new IllegalStateException(throwable);
+      }
+
+      @Override
+      public void onComplete()
+      {
+        blackhole.consume(true);
+      }
+    });
+  }
+}
@@ -0,0 +1,76 @@
+package io.simplelocalize.cli.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of blocking tasks, e.g. downloads waiting for the server, on executors of {@link BlockingTaskExecutors}
+ * from the multi-release jar: the bounded platform pool used up to Java 20 and virtual threads used from Java 21.
+ * Build the jar with JDK 21+, so it contains the Java 21 version of the class, and run the benchmark once on each JVM:
+ * ./mvnw -Pbenchmark package exec:exec -DskipTests -Dbenchmark=BlockingTaskExecutorsBenchmark -Dbenchmark.jvm=/path/to/jdk-17/bin/java
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingTaskExecutorsBenchmark
+{
+  private static final int TASKS = 1000;
+  private static final int MAX_PLATFORM_THREADS = 8;
+
+  @Param({"5"})
+  private int blockingMillis;
+
+  @Setup
+  public void setUp()
+  {
+    String executor = BlockingTaskExecutors.isVirtualThreads() ? "virtual threads" : MAX_PLATFORM_THREADS + " platform threads";
+    System.out.println("Java " + Runtime.version().feature() + ", blocking tasks run on " + executor);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TASKS)
+  public int runBlockingTasks() throws Exception
+  {
+    ExecutorService executor = BlockingTaskExecutors.newExecutor(MAX_PLATFORM_THREADS);
+    try
+    {
+      List<Future<Integer>> results = new ArrayList<>(TASKS);
+      for (int i = 0; i < TASKS; i++)
+      {
+        int task = i;
+        results.add(executor.submit(() -> {
+          Thread.sleep(blockingMillis);
+          return task;
+        }));
+      }
+      int sum = 0;
+      for (Future<Integer> result : results)
+      {
+        sum += result.get();
+      }
+      return sum;
+    } finally
+    {
+      executor.shutdownNow();
+    }
+  }
+}
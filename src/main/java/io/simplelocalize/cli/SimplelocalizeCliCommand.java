@@ -4,7 +4,10 @@ import io.micronaut.configuration.picocli.PicocliRunner;
 import io.simplelocalize.cli.client.SimpleLocalizeClient;
 import io.simplelocalize.cli.command.DownloadCommand;
 import io.simplelocalize.cli.command.ExtractCommand;
+import io.simplelocalize.cli.command.KeysCommand;
+import io.simplelocalize.cli.command.ReportCommand;
 import io.simplelocalize.cli.command.UploadCommand;
+import io.simplelocalize.cli.command.WhereUsedCommand;
 import io.simplelocalize.cli.configuration.Configuration;
 import io.simplelocalize.cli.configuration.ConfigurationLoader;
 import io.simplelocalize.cli.configuration.ConfigurationValidator;
@@ -13,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -51,8 +55,15 @@ public class SimplelocalizeCliCommand implements Runnable
           description = "Extract translation keys from project files. Use 'simplelocalize-cli extract --help' to learn more about the parameters.")
   public void extract(
           @Option(names = {"--apiKey"}, description = "Project API Key") String apiKey,
-          @Option(names = {"--projectType"}, description = "Project type tells CLI how to find i18n keys in your project files") String projectType,
-          @Option(names = {"--searchDir"}, description = "(Optional) Search directory tells CLI where to look for project files which may contain translation keys. Default: ./") String searchDirectory
+          @Option(names = {"--projectType"}, description = "Project type tells CLI how to find i18n keys in your project files. Separate many project types with commas to extract them in one run") String projectType,
+          @Option(names = {"--searchDir"}, description = "(Optional) Search directory tells CLI where to look for project files which may contain translation keys. Default: ./") String searchDirectory,
+          @Option(names = {"--onlyNewKeys"}, description = "(Optional) Upload only keys which do not exist in the project yet") boolean onlyNewKeys,
+          @Option(names = {"--shard"}, description = "(Optional) Extract only files of the shard 'index/count', e.g. '1/3', and save a partial result instead of uploading keys") String shard,
+          @Option(names = {"--partialResultPath"}, description = "(Optional) File where the partial result of the shard is saved. Default: ./.simplelocalize/partial-results/shard-{index}-of-{count}.keys") String partialResultPath,
+          @Option(names = {"--merge"}, arity = "0..*", split = ",", paramLabel = "PARTIAL_RESULT", description = "(Optional) Merge partial results of all shards, given as files or directories, and upload keys once. Default: ./.simplelocalize/partial-results") List<String> mergePartialResults,
+          @Option(names = {"--output"}, description = "(Optional) Write keys as NDJSON to the file, or to standard output with '-', while extraction runs, instead of uploading them") String output,
+          @Option(names = {"--outputLocations"}, description = "(Optional) Add line and column of every key occurrence to the '--output' records") boolean outputLocations,
+          @Option(names = {"--includeGeneratedFiles"}, description = "(Optional) Extract keys also from minified bundles and generated files, which are skipped by default") boolean includeGeneratedFiles
   )
   {
     ConfigurationLoader configurationLoader = new ConfigurationLoader();
@@ -69,11 +80,121 @@ public class SimplelocalizeCliCommand implements Runnable
     {
       configuration.setSearchDir(searchDirectory);
     }
-    SimpleLocalizeClient client = SimpleLocalizeClient.withProductionServer(configuration.getApiKey());
-    ExtractCommand extractCommand = new ExtractCommand(client, configuration);
+    if (onlyNewKeys)
+    {
+      configuration.setOnlyNewKeys(true);
+    }
+    if (StringUtils.isNotEmpty(shard))
+    {
+      configuration.setShard(shard);
+    }
+    if (StringUtils.isNotEmpty(partialResultPath))
+    {
+      configuration.setPartialResultPath(partialResultPath);
+    }
+    if (mergePartialResults != null)
+    {
+      configuration.setMergePartialResults(mergePartialResults);
+    }
+    if (StringUtils.isNotEmpty(output))
+    {
+      configuration.setOutput(output);
+    }
+    if (outputLocations)
+    {
+      configuration.setOutputLocations(true);
+    }
+    if (includeGeneratedFiles)
+    {
+      configuration.setIncludeGeneratedFiles(true);
+    }
+    ExtractCommand extractCommand = new ExtractCommand(() -> createClient(configuration), configuration);
     extractCommand.invoke();
   }
 
+  @Command(
+          name = "where-used",
+          description = "Show files, lines and columns where the translation key is used. Answers from a local index, which is built on first use and updated for changed files with '--refresh'. Use 'simplelocalize-cli where-used --help' to learn more about the parameters.")
+  public void whereUsed(
+          @Parameters(paramLabel = "KEY", description = "Translation key") String key,
+          @Option(names = {"--projectType"}, description = "Project type tells CLI how to find i18n keys in your project files") String projectType,
+          @Option(names = {"--searchDir"}, description = "(Optional) Search directory tells CLI where to look for project files which may contain translation keys. Default: ./") String searchDirectory,
+          @Option(names = {"--refresh"}, description = "(Optional) Update the index for files added, changed or removed since it was built before answering") boolean refresh
+  )
+  {
+    Configuration configuration = loadKeyUsageConfiguration(projectType, searchDirectory, refresh);
+    WhereUsedCommand whereUsedCommand = new WhereUsedCommand(configuration, key);
+    whereUsedCommand.invoke();
+  }
+
+  @Command(
+          name = "keys",
+          description = "List translation keys used in project files. Answers from a local index, which is built on first use and updated for changed files with '--refresh'. Use 'simplelocalize-cli keys --help' to learn more about the parameters.")
+  public void keys(
+          @Option(names = {"--prefix"}, description = "(Optional) List only keys starting with the prefix") String prefix,
+          @Option(names = {"--projectType"}, description = "Project type tells CLI how to find i18n keys in your project files") String projectType,
+          @Option(names = {"--searchDir"}, description = "(Optional) Search directory tells CLI where to look for project files which may contain translation keys. Default: ./") String searchDirectory,
+          @Option(names = {"--refresh"}, description = "(Optional) Update the index for files added, changed or removed since it was built before answering") boolean refresh
+  )
+  {
+    Configuration configuration = loadKeyUsageConfiguration(projectType, searchDirectory, refresh);
+    KeysCommand keysCommand = new KeysCommand(configuration, prefix);
+    keysCommand.invoke();
+  }
+
+  private Configuration loadKeyUsageConfiguration(String projectType, String searchDirectory, boolean refresh)
+  {
+    ConfigurationLoader configurationLoader = new ConfigurationLoader();
+    Configuration configuration = configurationLoader.loadOrGetDefault(configurationFilePath);
+    if (StringUtils.isNotEmpty(projectType))
+    {
+      configuration.setProjectType(projectType);
+    }
+    if (StringUtils.isNotEmpty(searchDirectory))
+    {
+      configuration.setSearchDir(searchDirectory);
+    }
+    if (refresh)
+    {
+      configuration.setRefreshKeysIndex(true);
+    }
+    return configuration;
+  }
+
+  @Command(
+          name = "report",
+          description = "Report unused keys and missing translations by comparing project files with downloaded translation files. Works offline. Use 'simplelocalize-cli report --help' to learn more about the parameters.")
+  public void report(
+          @Option(names = {"--projectType"}, description = "Project type tells CLI how to find i18n keys in your project files") String projectType,
+          @Option(names = {"--searchDir"}, description = "(Optional) Search directory tells CLI where to look for project files which may contain translation keys. Default: ./") String searchDirectory,
+          @Option(names = {"--downloadPath"}, description = "Path to downloaded translation files. Use '{lang}' to define language key if translations are split into multiple files.") String downloadPath,
+          @Option(names = {"--downloadFormat"}, description = "Format of downloaded translation files: 'single-language-json' or 'multi-language-json'") String downloadFormat
+  )
+  {
+    ConfigurationLoader configurationLoader = new ConfigurationLoader();
+    Configuration configuration = configurationLoader.loadOrGetDefault(configurationFilePath);
+    if (StringUtils.isNotEmpty(projectType))
+    {
+      configuration.setProjectType(projectType);
+    }
+    if (StringUtils.isNotEmpty(searchDirectory))
+    {
+      configuration.setSearchDir(searchDirectory);
+    }
+    if (StringUtils.isNotEmpty(downloadPath))
+    {
+      configuration.setDownloadPath(downloadPath);
+    }
+    if (StringUtils.isNotEmpty(downloadFormat))
+    {
+      configuration.setDownloadFormat(downloadFormat);
+    }
+    ConfigurationValidator configurationValidator = new ConfigurationValidator();
+    configurationValidator.validateReportConfiguration(configuration);
+    ReportCommand reportCommand = new ReportCommand(configuration);
+    reportCommand.invoke();
+  }
+
   @Command(
           name = "sync",
           description = "Synchronize (Upload & Download) translations with SimpleLocalize editor. Use 'simplelocalize-cli sync --help' to learn more about the parameters.")
@@ -133,7 +254,7 @@ public class SimplelocalizeCliCommand implements Runnable
 
     ConfigurationValidator configurationValidator = new ConfigurationValidator();
     configurationValidator.validateUploadConfiguration(configuration);
-    UploadCommand uploadCommand = new UploadCommand(configuration);
+    UploadCommand uploadCommand = new UploadCommand(createClient(configuration), configuration);
     uploadCommand.invoke();
   }
 
@@ -173,11 +294,21 @@ public class SimplelocalizeCliCommand implements Runnable
     }
     ConfigurationValidator configurationValidator = new ConfigurationValidator();
     configurationValidator.validateDownloadConfiguration(configuration);
-    SimpleLocalizeClient client = SimpleLocalizeClient.withProductionServer(configuration.getApiKey());
+    SimpleLocalizeClient client = createClient(configuration);
     DownloadCommand downloadCommand = new DownloadCommand(client, configuration);
     downloadCommand.invoke();
   }
 
+  private static SimpleLocalizeClient createClient(Configuration configuration)
+  {
+    String baseUrl = configuration.getBaseUrl();
+    if (StringUtils.isNotEmpty(baseUrl))
+    {
+      return SimpleLocalizeClient.withCustomServer(baseUrl, configuration.getApiKey());
+    }
+    return SimpleLocalizeClient.withProductionServer(configuration.getApiKey());
+  }
+
   public void run()
   {
     log.warn(" 🤨 Please specify a command. Visit https://simplelocalize.io/docs/cli/get-started/ to learn more.");
@@ -1,41 +1,38 @@
 package io.simplelocalize.cli.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.simplelocalize.cli.client.dto.ImportForm;
-import io.simplelocalize.cli.client.dto.ImportKey;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.http.HttpRequest;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 final class ClientBodyBuilders
 {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final JsonFactory jsonFactory = new JsonFactory();
+  private static final int KEYS_PER_CHUNK = 512;
 
   private ClientBodyBuilders()
   {
   }
 
-  static HttpRequest.BodyPublisher ofKeysBody(Collection<String> keys) throws JsonProcessingException
+  /**
+   * Streams {@code {"content":[{"key":"..."},...]}} straight from the key collection.
+   * JSON is generated lazily in small chunks while the request body is being sent.
+   */
+  static HttpRequest.BodyPublisher ofKeysBody(Collection<String> keys)
   {
-
-    Set<ImportKey> importContent = keys.stream()
-            .map(ImportKey::new)
-            .collect(Collectors.toSet());
-
-    ImportForm importForm = new ImportForm(importContent);
-
-    String jsonString = objectMapper.writeValueAsString(importForm);
-    return HttpRequest.BodyPublishers.ofString(jsonString);
+    return HttpRequest.BodyPublishers.ofByteArrays(() -> new KeysJsonChunkIterator(keys.iterator()));
   }
 
   static HttpRequest.BodyPublisher ofMimeMultipartData(Map<Object, Object> data, String boundary) throws IOException
@@ -62,4 +59,66 @@ final class ClientBodyBuilders
     return HttpRequest.BodyPublishers.ofByteArrays(byteArrays);
   }
 
+  private static final class KeysJsonChunkIterator implements Iterator<byte[]>
+  {
+    private final Iterator<String> keys;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final JsonGenerator generator;
+    private boolean finished;
+
+    private KeysJsonChunkIterator(Iterator<String> keys)
+    {
+      this.keys = keys;
+      try
+      {
+        this.generator = jsonFactory.createGenerator(buffer);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("content");
+      } catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return !finished;
+    }
+
+    @Override
+    public byte[] next()
+    {
+      if (finished)
+      {
+        throw new NoSuchElementException();
+      }
+      try
+      {
+        for (int written = 0; written < KEYS_PER_CHUNK && keys.hasNext(); written++)
+        {
+          generator.writeStartObject();
+          generator.writeStringField("key", keys.next());
+          generator.writeEndObject();
+        }
+        if (keys.hasNext())
+        {
+          generator.flush();
+        } else
+        {
+          generator.writeEndArray();
+          generator.writeEndObject();
+          generator.close();
+          finished = true;
+        }
+      } catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+      byte[] chunk = buffer.toByteArray();
+      buffer.reset();
+      return chunk;
+    }
+  }
+
 }
@@ -0,0 +1,211 @@
+package io.simplelocalize.cli.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.simplelocalize.cli.client.dto.DownloadRequest;
+import io.simplelocalize.cli.client.dto.DownloadableFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.simplelocalize.cli.client.dto.DownloadRequest.DownloadRequestBuilder.aDownloadRequest;
+
+/**
+ * Keeps a local copy of the translation keys which already exist in the project.
+ * The copy is tagged with the project and the version (ETag) of the exported file,
+ * and it is downloaded again whenever the server reports a different version.
+ */
+public class ProjectKeysCache
+{
+  public static final Path DEFAULT_CACHE_PATH = Path.of(".simplelocalize", "keys-cache.json");
+
+  private static final String EXPORT_FORMAT = "multi-language-json";
+
+  private static final Logger log = LoggerFactory.getLogger(ProjectKeysCache.class);
+
+  private final SimpleLocalizeClient client;
+  private final Path cachePath;
+  private final String project;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  public ProjectKeysCache(SimpleLocalizeClient client, Path cachePath, String apiKey)
+  {
+    this.client = client;
+    this.cachePath = cachePath;
+    this.project = sha256Hex(Objects.requireNonNull(apiKey));
+  }
+
+  /**
+   * Returns keys which exist in the project, or empty when they could not be determined.
+   */
+  public Optional<Set<String>> loadProjectKeys()
+  {
+    try
+    {
+      DownloadRequest downloadRequest = aDownloadRequest()
+              .withFormat(EXPORT_FORMAT)
+              .withOptions(List.of())
+              .build();
+      List<DownloadableFile> downloadableFiles = client.fetchDownloadableFiles(downloadRequest);
+      if (downloadableFiles == null || downloadableFiles.isEmpty())
+      {
+        return Optional.empty();
+      }
+
+      String version = fetchVersion(downloadableFiles);
+      if (version != null)
+      {
+        Optional<Set<String>> cachedKeys = readCache(version);
+        if (cachedKeys.isPresent())
+        {
+          log.info(" 🗄  Using cached project keys from: {}", cachePath);
+          return cachedKeys;
+        }
+      }
+
+      Set<String> projectKeys = new HashSet<>();
+      for (DownloadableFile downloadableFile : downloadableFiles)
+      {
+        projectKeys.addAll(client.downloadKeys(downloadableFile));
+      }
+      if (version != null)
+      {
+        writeCache(version, projectKeys);
+      }
+      return Optional.of(projectKeys);
+    } catch (InterruptedException e)
+    {
+      log.warn(" 🤔 Fetching project keys interrupted", e);
+      Thread.currentThread().interrupt();
+    } catch (Exception e)
+    {
+      log.warn(" 🤔 Unable to fetch project keys: {}", e.getMessage());
+    }
+    return Optional.empty();
+  }
+
+  private String fetchVersion(List<DownloadableFile> downloadableFiles) throws IOException, InterruptedException
+  {
+    List<String> versions = new ArrayList<>();
+    for (DownloadableFile downloadableFile : downloadableFiles)
+    {
+      String version = client.fetchFileVersion(downloadableFile);
+      if (version == null)
+      {
+        return null;
+      }
+      versions.add(version);
+    }
+    return String.join(",", versions);
+  }
+
+  private Optional<Set<String>> readCache(String version)
+  {
+    if (!Files.isRegularFile(cachePath))
+    {
+      return Optional.empty();
+    }
+
+    String cachedProject = null;
+    String cachedVersion = null;
+    Set<String> keys = new HashSet<>();
+    try (InputStream inputStream = Files.newInputStream(cachePath);
+         JsonParser parser = objectMapper.getFactory().createParser(inputStream))
+    {
+      if (parser.nextToken() != JsonToken.START_OBJECT)
+      {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME)
+      {
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        if ("project".equals(fieldName))
+        {
+          cachedProject = parser.getValueAsString();
+        } else if ("version".equals(fieldName))
+        {
+          cachedVersion = parser.getValueAsString();
+        } else if ("keys".equals(fieldName) && parser.currentToken() == JsonToken.START_ARRAY)
+        {
+          while (parser.nextToken() == JsonToken.VALUE_STRING)
+          {
+            keys.add(parser.getText());
+          }
+        } else
+        {
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException e)
+    {
+      log.warn(" 🤔 Ignoring unreadable keys cache: {}", cachePath);
+      return Optional.empty();
+    }
+
+    boolean isUpToDate = project.equals(cachedProject) && version.equals(cachedVersion);
+    return isUpToDate ? Optional.of(keys) : Optional.empty();
+  }
+
+  private void writeCache(String version, Set<String> keys)
+  {
+    try
+    {
+      Path parentDirectory = cachePath.toAbsolutePath().getParent();
+      if (parentDirectory != null)
+      {
+        Files.createDirectories(parentDirectory);
+      }
+      try (OutputStream outputStream = Files.newOutputStream(cachePath);
+           JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream))
+      {
+        generator.writeStartObject();
+        generator.writeStringField("project", project);
+        generator.writeStringField("version", version);
+        generator.writeArrayFieldStart("keys");
+        for (String key : keys)
+        {
+          generator.writeString(key);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+      }
+    } catch (IOException e)
+    {
+      log.warn(" 🤔 Unable to write keys cache: {}", cachePath, e);
+    }
+  }
+
+  private static String sha256Hex(String value)
+  {
+    try
+    {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      StringBuilder output = new StringBuilder();
+      for (byte b : digest)
+      {
+        output.append(String.format("%02x", b));
+      }
+      return output.toString();
+    } catch (NoSuchAlgorithmException e)
+    {
+      throw new IllegalStateException(e);
+    }
+  }
+}
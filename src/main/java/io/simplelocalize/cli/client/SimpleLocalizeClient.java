@@ -1,5 +1,7 @@
 package io.simplelocalize.cli.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
@@ -7,11 +9,13 @@ import io.simplelocalize.cli.client.dto.DownloadRequest;
 import io.simplelocalize.cli.client.dto.DownloadableFile;
 import io.simplelocalize.cli.client.dto.ExportResponse;
 import io.simplelocalize.cli.client.dto.UploadRequest;
+import io.simplelocalize.cli.concurrent.BlockingTaskExecutors;
 import io.simplelocalize.cli.exception.ApiRequestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -20,10 +24,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import static io.simplelocalize.cli.TemplateKeys.LANGUAGE_TEMPLATE_KEY;
 import static io.simplelocalize.cli.TemplateKeys.NAMESPACE_TEMPLATE_KEY;
@@ -33,18 +44,29 @@ public class SimpleLocalizeClient
   private static final String PRODUCTION_BASE_URL = "https://api.simplelocalize.io";
 
   private static final String ERROR_MESSAGE_PATH = "$.msg";
+  private static final int DEFAULT_KEYS_BATCH_SIZE = 10_000;
+  private static final int MAX_CONCURRENT_KEYS_BATCHES = 4;
+  private static final int MAX_KEYS_BATCH_ATTEMPTS = 3;
+  private static final long RETRY_BACKOFF_MILLIS = 1_000;
   private final HttpClient httpClient;
   private final SimpleLocalizeHttpRequestFactory httpRequestFactory;
   private final SimpleLocalizeUriFactory uriFactory;
 
   private final Logger log = LoggerFactory.getLogger(SimpleLocalizeClient.class);
   private final ObjectMapper objectMapper;
+  private final int keysBatchSize;
 
   public SimpleLocalizeClient(String baseUrl, String apiKey)
+  {
+    this(baseUrl, apiKey, DEFAULT_KEYS_BATCH_SIZE);
+  }
+
+  SimpleLocalizeClient(String baseUrl, String apiKey, int keysBatchSize)
   {
 
     Objects.requireNonNull(baseUrl);
     Objects.requireNonNull(apiKey);
+    this.keysBatchSize = keysBatchSize;
     this.uriFactory = new SimpleLocalizeUriFactory(baseUrl);
     this.httpRequestFactory = new SimpleLocalizeHttpRequestFactory(apiKey);
     this.objectMapper = new ObjectMapper();
@@ -64,13 +86,117 @@ public class SimpleLocalizeClient
   }
 
   public void uploadKeys(Collection<String> keys) throws IOException, InterruptedException
+  {
+    uploadKeys(keys, Set.of());
+  }
+
+  /**
+   * Uploads keys in batches of {@code keysBatchSize}, with a bounded number of batches in flight.
+   * Ignored keys are skipped while batches are built, so the input collection is never copied as a whole.
+   */
+  public void uploadKeys(Collection<String> keys, Set<String> ignoredKeys) throws IOException, InterruptedException
   {
     URI uri = uriFactory.buildSendKeysURI();
-    HttpRequest httpRequest = httpRequestFactory.createSendKeysRequest(uri, keys);
-    HttpResponse<String> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-    throwOnError(httpResponse);
-    int keysProcessed = JsonPath.read(httpResponse.body(), "$.data.uniqueKeysProcessed");
-    log.info(" 🎉 Successfully uploaded {} keys", keysProcessed);
+    ExecutorService executor = BlockingTaskExecutors.newExecutor(MAX_CONCURRENT_KEYS_BATCHES);
+    Semaphore inFlightBatches = new Semaphore(MAX_CONCURRENT_KEYS_BATCHES);
+    List<Future<Integer>> batchResults = new ArrayList<>();
+    try
+    {
+      List<String> batch = new ArrayList<>();
+      for (String key : keys)
+      {
+        if (ignoredKeys.contains(key))
+        {
+          continue;
+        }
+        batch.add(key);
+        if (batch.size() >= keysBatchSize)
+        {
+          batchResults.add(submitKeysBatch(executor, inFlightBatches, uri, batch));
+          batch = new ArrayList<>();
+        }
+      }
+      if (!batch.isEmpty())
+      {
+        batchResults.add(submitKeysBatch(executor, inFlightBatches, uri, batch));
+      }
+
+      int keysProcessed = 0;
+      for (Future<Integer> batchResult : batchResults)
+      {
+        keysProcessed += awaitKeysBatch(batchResult);
+      }
+      log.info(" 🎉 Successfully uploaded {} keys", keysProcessed);
+    } finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  private Future<Integer> submitKeysBatch(ExecutorService executor, Semaphore inFlightBatches, URI uri, List<String> batch) throws InterruptedException
+  {
+    inFlightBatches.acquire();
+    return executor.submit(() -> {
+      try
+      {
+        return sendKeysBatch(uri, batch);
+      } finally
+      {
+        inFlightBatches.release();
+      }
+    });
+  }
+
+  private int sendKeysBatch(URI uri, List<String> batch) throws IOException, InterruptedException
+  {
+    HttpRequest httpRequest = httpRequestFactory.createSendKeysRequest(uri, batch);
+    for (int attempt = 1; ; attempt++)
+    {
+      try
+      {
+        HttpResponse<String> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+        throwOnError(httpResponse);
+        return JsonPath.read(httpResponse.body(), "$.data.uniqueKeysProcessed");
+      } catch (IOException | ApiRequestException e)
+      {
+        if (attempt >= MAX_KEYS_BATCH_ATTEMPTS || !isRetryable(e))
+        {
+          throw e;
+        }
+        log.warn(" 🤔 Keys batch upload failed, retrying ({}/{})", attempt, MAX_KEYS_BATCH_ATTEMPTS - 1);
+        Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+      }
+    }
+  }
+
+  private boolean isRetryable(Exception exception)
+  {
+    if (exception instanceof ApiRequestException)
+    {
+      int statusCode = ((ApiRequestException) exception).getHttpResponse().statusCode();
+      return statusCode == 429 || statusCode >= 500;
+    }
+    return true;
+  }
+
+  private int awaitKeysBatch(Future<Integer> batchResult) throws IOException, InterruptedException
+  {
+    try
+    {
+      return batchResult.get();
+    } catch (ExecutionException e)
+    {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException)
+      {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException("Keys upload failed", cause);
+    }
   }
 
   public void uploadFile(UploadRequest uploadRequest) throws IOException, InterruptedException
@@ -123,6 +249,55 @@ public class SimpleLocalizeClient
     }
   }
 
+  /**
+   * Returns ETag (or Last-Modified) of a downloadable file, or null when the server sends neither.
+   */
+  public String fetchFileVersion(DownloadableFile downloadableFile) throws IOException, InterruptedException
+  {
+    URI uri = URI.create(downloadableFile.getUrl());
+    HttpRequest httpRequest = httpRequestFactory.createHeadRequest(uri).build();
+    HttpResponse<Void> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+    throwOnError(httpResponse);
+    return httpResponse.headers().firstValue("ETag")
+            .or(() -> httpResponse.headers().firstValue("Last-Modified"))
+            .orElse(null);
+  }
+
+  /**
+   * Streams a 'multi-language-json' file and collects translation keys from every language.
+   */
+  public Set<String> downloadKeys(DownloadableFile downloadableFile) throws IOException, InterruptedException
+  {
+    URI uri = URI.create(downloadableFile.getUrl());
+    HttpRequest httpRequest = httpRequestFactory.createGetRequest(uri).build();
+    HttpResponse<InputStream> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+    Set<String> keys = new HashSet<>();
+    try (InputStream inputStream = httpResponse.body();
+         JsonParser parser = objectMapper.getFactory().createParser(inputStream))
+    {
+      throwOnError(httpResponse);
+      if (parser.nextToken() != JsonToken.START_OBJECT)
+      {
+        return keys;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME)
+      {
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+          parser.skipChildren();
+          continue;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+          keys.add(parser.getCurrentName());
+          parser.nextToken();
+          parser.skipChildren();
+        }
+      }
+    }
+    return keys;
+  }
+
   public int validateGate() throws IOException, InterruptedException
   {
     URI validateUri = uriFactory.buildValidateGateUri();
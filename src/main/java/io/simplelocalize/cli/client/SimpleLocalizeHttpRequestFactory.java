@@ -1,6 +1,5 @@
 package io.simplelocalize.cli.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.simplelocalize.cli.Version;
 import io.simplelocalize.cli.client.dto.UploadRequest;
 
@@ -28,7 +27,7 @@ public class SimpleLocalizeHttpRequestFactory
     this.random = new SecureRandom();
   }
 
-  HttpRequest createSendKeysRequest(URI uri, Collection<String> keys) throws JsonProcessingException
+  HttpRequest createSendKeysRequest(URI uri, Collection<String> keys)
   {
     return createBaseRequest(uri)
             .POST(ClientBodyBuilders.ofKeysBody(keys))
@@ -55,6 +54,11 @@ public class SimpleLocalizeHttpRequestFactory
     return createBaseRequest(uri).GET();
   }
 
+  HttpRequest.Builder createHeadRequest(URI uri)
+  {
+    return createBaseRequest(uri).method("HEAD", HttpRequest.BodyPublishers.noBody());
+  }
+
   HttpRequest.Builder createBaseRequest(URI uri)
   {
     return HttpRequest.newBuilder()
@@ -4,18 +4,24 @@ import io.simplelocalize.cli.TemplateKeys;
 import io.simplelocalize.cli.client.SimpleLocalizeClient;
 import io.simplelocalize.cli.client.dto.DownloadRequest;
 import io.simplelocalize.cli.client.dto.DownloadableFile;
+import io.simplelocalize.cli.concurrent.BlockingTaskExecutors;
 import io.simplelocalize.cli.configuration.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static io.simplelocalize.cli.client.dto.DownloadRequest.DownloadRequestBuilder.aDownloadRequest;
 
 public class DownloadCommand implements CliCommand
 {
   private static final Logger log = LoggerFactory.getLogger(DownloadCommand.class);
+  private static final int MAX_CONCURRENT_DOWNLOADS = 8;
 
   private final SimpleLocalizeClient client;
   private final Configuration configuration;
@@ -59,10 +65,12 @@ public class DownloadCommand implements CliCommand
     try
     {
       List<DownloadableFile> downloadableFiles = client.fetchDownloadableFiles(downloadRequest);
-      downloadableFiles
-              .parallelStream()
-              .forEach(downloadableFile -> client.downloadFile(downloadableFile, downloadPath));
+      downloadFiles(downloadableFiles, downloadPath);
       log.info(" 🎉 Download success!");
+    } catch (ExecutionException e)
+    {
+      log.error(" 😝 Translations could not be downloaded", e.getCause());
+      System.exit(1);
     } catch (InterruptedException e)
     {
       log.error(" 😝 Translations could not be downloaded", e);
@@ -74,4 +82,23 @@ public class DownloadCommand implements CliCommand
     }
   }
 
+  private void downloadFiles(List<DownloadableFile> downloadableFiles, String downloadPath) throws InterruptedException, ExecutionException
+  {
+    ExecutorService executor = BlockingTaskExecutors.newExecutor(MAX_CONCURRENT_DOWNLOADS);
+    try
+    {
+      List<Future<?>> downloads = new ArrayList<>();
+      for (DownloadableFile downloadableFile : downloadableFiles)
+      {
+        downloads.add(executor.submit(() -> client.downloadFile(downloadableFile, downloadPath)));
+      }
+      for (Future<?> download : downloads)
+      {
+        download.get();
+      }
+    } finally
+    {
+      executor.shutdownNow();
+    }
+  }
 }
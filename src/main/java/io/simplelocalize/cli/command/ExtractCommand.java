@@ -1,30 +1,63 @@
 package io.simplelocalize.cli.command;
 
+import io.simplelocalize.cli.client.ProjectKeysCache;
 import io.simplelocalize.cli.client.SimpleLocalizeClient;
 import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.exception.PartialResultException;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder;
 import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ExtractionShard;
+import io.simplelocalize.cli.extraction.KeyMatcher;
+import io.simplelocalize.cli.extraction.PartialExtractionResult;
 import io.simplelocalize.cli.extraction.ProjectProcessorFactory;
 import io.simplelocalize.cli.extraction.processor.ExtractionProcessor;
+import io.simplelocalize.cli.extraction.usage.NdjsonKeysWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
 
 public class ExtractCommand implements CliCommand
 {
   private static final Logger log = LoggerFactory.getLogger(ExtractCommand.class);
 
-  private final SimpleLocalizeClient client;
+  static final Path DEFAULT_PARTIAL_RESULTS_DIRECTORY = Path.of(".simplelocalize", "partial-results");
+  private static final String PARTIAL_RESULT_EXTENSION = ".keys";
+  private static final String STANDARD_OUTPUT = "-";
+
+  private final Supplier<SimpleLocalizeClient> clientSupplier;
   private final Configuration configuration;
+  private SimpleLocalizeClient client;
 
   public ExtractCommand(SimpleLocalizeClient client, Configuration configuration)
+  {
+    this(() -> client, configuration);
+  }
+
+  /**
+   * Creates the client only when the server is called, so shards and exports run without an API key.
+   */
+  public ExtractCommand(Supplier<SimpleLocalizeClient> clientSupplier, Configuration configuration)
   {
     this.configuration = configuration;
-    this.client = client;
+    this.clientSupplier = clientSupplier;
   }
 
   public void invoke()
@@ -32,25 +65,237 @@ public class ExtractCommand implements CliCommand
     String searchDir = configuration.getSearchDir();
     String projectType = configuration.getProjectType();
 
-    log.info(" 🕵️‍♂️ Running keys extraction");
-    ProjectProcessorFactory processorFactory = new ProjectProcessorFactory();
-    ExtractionProcessor extractionProcessor = processorFactory.createForType(projectType);
-    ExtractionResult result = extractionProcessor.process(Paths.get(searchDir));
+    String output = configuration.getOutput();
+    if (output != null)
+    {
+      exportKeys(output);
+      return;
+    }
+
+    ExtractionResult result;
+    List<String> partialResultPaths = configuration.getMergePartialResults();
+    if (partialResultPaths != null)
+    {
+      log.info(" 🧩 Merging partial extraction results");
+      Optional<ExtractionResult> mergedResult = mergePartialResults(partialResultPaths);
+      if (mergedResult.isEmpty())
+      {
+        return;
+      }
+      result = mergedResult.get();
+    } else
+    {
+      log.info(" 🕵️‍♂️ Running keys extraction");
+      ProjectProcessorFactory processorFactory = new ProjectProcessorFactory();
+      ExtractionProcessor extractionProcessor = processorFactory.createForType(projectType, buildExtractionOptions(configuration));
+      result = extractionProcessor.process(Paths.get(searchDir));
+    }
 
     Set<String> keys = result.getKeys();
     List<Path> processedFiles = result.getProcessedFiles();
     log.info(" 📦 Found {} unique keys in {} components", keys.size(), processedFiles.size());
+    List<Path> skippedFiles = result.getSkippedFiles();
+    if (!skippedFiles.isEmpty())
+    {
+      log.warn(" 🐢 Skipped {} files which exceeded the extraction time budget: {}", skippedFiles.size(), skippedFiles);
+    }
 
-    Set<String> ignoredKeys = new HashSet<>(configuration.getIgnoreKeys());
-    keys.removeAll(ignoredKeys);
+    String shard = configuration.getShard();
+    if (shard != null)
+    {
+      writePartialResult(result, ExtractionShard.parse(shard));
+      return;
+    }
+
+    if (configuration.isOnlyNewKeys())
+    {
+      keys = removeProjectKeys(keys);
+      if (keys.isEmpty())
+      {
+        log.info(" 🎉 All keys already exist in the project");
+        return;
+      }
+    }
 
     try
     {
-      client.uploadKeys(keys);
+      getClient().uploadKeys(keys);
     } catch (Exception e)
     {
       log.error(" 😝 Keys upload failed. Contact support: contact@simplelocalize.io", e);
       Thread.currentThread().interrupt();
     }
   }
+
+  static ExtractionOptions buildExtractionOptions(Configuration configuration)
+  {
+    return extractionOptionsBuilder(configuration).build();
+  }
+
+  private static ExtractionOptionsBuilder extractionOptionsBuilder(Configuration configuration)
+  {
+    Long streamingThreshold = configuration.getStreamingThreshold();
+    String shard = configuration.getShard();
+    return anExtractionOptions()
+            .withStreamingThreshold(streamingThreshold != null ? streamingThreshold : ExtractionOptions.DEFAULT_STREAMING_THRESHOLD)
+            .withShard(shard != null ? ExtractionShard.parse(shard) : ExtractionShard.ALL)
+            .withIgnoredKeys(KeyMatcher.compile(configuration.getIgnoreKeys()))
+            .withExtractionRules(configuration.getExtractionRules())
+            .withGeneratedFilesExcluded(!configuration.isIncludeGeneratedFiles())
+            ;
+  }
+
+  /**
+   * Writes keys as NDJSON while extraction runs, without keeping them in memory and without uploading them.
+   * With '-' as output, keys are written to standard output and logs are moved to standard error.
+   */
+  private void exportKeys(String output)
+  {
+    boolean isStandardOutput = STANDARD_OUTPUT.equals(output);
+    PrintStream standardOutput = System.out;
+    OutputStream outputStream = null;
+    try
+    {
+      if (isStandardOutput)
+      {
+        System.setOut(System.err);
+        outputStream = standardOutput;
+      } else
+      {
+        outputStream = Files.newOutputStream(Path.of(output));
+      }
+      log.info(" 🕵️‍♂️ Running keys extraction");
+      ExtractionOptionsBuilder extractionOptionsBuilder = extractionOptionsBuilder(configuration);
+      ExtractionOptions extractionOptions = extractionOptionsBuilder.build();
+      try (NdjsonKeysWriter keysWriter = new NdjsonKeysWriter(outputStream, configuration.isOutputLocations(), extractionOptions.getStreamingThreshold()))
+      {
+        extractionOptions = extractionOptionsBuilder
+                .withFileKeysListener(keysWriter)
+                .withKeysRetained(false)
+                .build();
+        ProjectProcessorFactory processorFactory = new ProjectProcessorFactory();
+        ExtractionProcessor extractionProcessor = processorFactory.createForType(configuration.getProjectType(), extractionOptions);
+        ExtractionResult result = extractionProcessor.process(Paths.get(configuration.getSearchDir()));
+        log.info(" 📝 Wrote {} records of {} files to: {}", keysWriter.getWrittenRecords(), keysWriter.getWrittenFiles(), isStandardOutput ? "standard output" : output);
+        List<Path> skippedFiles = result.getSkippedFiles();
+        if (!skippedFiles.isEmpty())
+        {
+          log.warn(" 🐢 Skipped {} files which exceeded the extraction time budget: {}", skippedFiles.size(), skippedFiles);
+        }
+      }
+    } catch (IOException | UncheckedIOException e)
+    {
+      log.error(" 😝 Keys could not be written to: {}", output, e);
+    } finally
+    {
+      if (isStandardOutput)
+      {
+        System.setOut(standardOutput);
+      } else if (outputStream != null)
+      {
+        closeQuietly(outputStream);
+      }
+    }
+  }
+
+  private static void closeQuietly(OutputStream outputStream)
+  {
+    try
+    {
+      outputStream.close();
+    } catch (IOException e)
+    {
+      log.warn(" 🤔 Unable to close output", e);
+    }
+  }
+
+  private void writePartialResult(ExtractionResult result, ExtractionShard shard)
+  {
+    String partialResultPath = configuration.getPartialResultPath();
+    Path path = partialResultPath != null ? Path.of(partialResultPath) : DEFAULT_PARTIAL_RESULTS_DIRECTORY.resolve("shard-" + shard.getIndex() + "-of-" + shard.getCount() + PARTIAL_RESULT_EXTENSION);
+    try
+    {
+      new PartialExtractionResult(configuration.getProjectType(), shard, result).write(path);
+      log.info(" 🧩 Partial result of shard {} saved to: {}", shard, path);
+    } catch (IOException e)
+    {
+      log.error(" 😝 Partial result could not be saved: {}", path, e);
+    }
+  }
+
+  private Optional<ExtractionResult> mergePartialResults(List<String> partialResultPaths)
+  {
+    List<String> paths = partialResultPaths.isEmpty() ? List.of(DEFAULT_PARTIAL_RESULTS_DIRECTORY.toString()) : partialResultPaths;
+    List<PartialExtractionResult> partialResults = new ArrayList<>();
+    try
+    {
+      for (String path : paths)
+      {
+        for (Path partialResultFile : findPartialResultFiles(Path.of(path)))
+        {
+          partialResults.add(PartialExtractionResult.read(partialResultFile));
+        }
+      }
+    } catch (IOException e)
+    {
+      log.error(" 😝 Partial results could not be read", e);
+      return Optional.empty();
+    }
+    try
+    {
+      return Optional.of(PartialExtractionResult.merge(partialResults));
+    } catch (PartialResultException e)
+    {
+      log.error(" 😝 Partial results could not be merged: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private static List<Path> findPartialResultFiles(Path path) throws IOException
+  {
+    if (!Files.isDirectory(path))
+    {
+      return List.of(path);
+    }
+    try (Stream<Path> files = Files.list(path))
+    {
+      return files
+              .filter(file -> file.getFileName().toString().endsWith(PARTIAL_RESULT_EXTENSION))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+  }
+
+  private SimpleLocalizeClient getClient()
+  {
+    if (client == null)
+    {
+      client = clientSupplier.get();
+    }
+    return client;
+  }
+
+  private Set<String> removeProjectKeys(Set<String> keys)
+  {
+    String keysCachePath = configuration.getKeysCachePath();
+    Path cachePath = keysCachePath != null ? Path.of(keysCachePath) : ProjectKeysCache.DEFAULT_CACHE_PATH;
+    ProjectKeysCache projectKeysCache = new ProjectKeysCache(getClient(), cachePath, configuration.getApiKey());
+    Optional<Set<String>> projectKeys = projectKeysCache.loadProjectKeys();
+    if (projectKeys.isEmpty())
+    {
+      log.warn(" 🤔 Project keys unavailable, uploading all keys");
+      return keys;
+    }
+    Set<String> existingKeys = projectKeys.get();
+    Set<String> newKeys = new HashSet<>();
+    for (String key : keys)
+    {
+      if (!existingKeys.contains(key))
+      {
+        newKeys.add(key);
+      }
+    }
+    log.info(" 📦 {} keys are new in the project", newKeys.size());
+    return newKeys;
+  }
 }
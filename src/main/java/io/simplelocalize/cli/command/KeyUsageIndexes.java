@@ -0,0 +1,41 @@
+package io.simplelocalize.cli.command;
+
+import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.extraction.usage.KeyUsageIndex;
+import io.simplelocalize.cli.extraction.usage.KeyUsageIndexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+final class KeyUsageIndexes
+{
+  private static final Logger log = LoggerFactory.getLogger(KeyUsageIndexes.class);
+
+  private KeyUsageIndexes()
+  {
+  }
+
+  /**
+   * Opens the index of the search directory, refreshed first when the configuration asks for it.
+   */
+  static Optional<KeyUsageIndex> open(Configuration configuration)
+  {
+    String keysIndexPath = configuration.getKeysIndexPath();
+    Path indexPath = keysIndexPath != null ? Path.of(keysIndexPath) : KeyUsageIndexer.DEFAULT_INDEX_PATH;
+    KeyUsageIndexer indexer = new KeyUsageIndexer(indexPath, configuration.getProjectType(), ExtractCommand.buildExtractionOptions(configuration));
+    try
+    {
+      String searchDir = configuration.getSearchDir();
+      Path searchDirectory = Paths.get(searchDir != null ? searchDir : "./");
+      return Optional.of(configuration.isRefreshKeysIndex() ? indexer.refresh(searchDirectory) : indexer.open(searchDirectory));
+    } catch (IOException e)
+    {
+      log.error(" 😝 Unable to update key usage index: {}", indexPath, e);
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package io.simplelocalize.cli.command;
+
+import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.extraction.usage.KeyUsageIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+public class KeysCommand implements CliCommand
+{
+  private static final Logger log = LoggerFactory.getLogger(KeysCommand.class);
+
+  private final Configuration configuration;
+  private final String prefix;
+
+  public KeysCommand(Configuration configuration, String prefix)
+  {
+    this.configuration = configuration;
+    this.prefix = prefix != null ? prefix : "";
+  }
+
+  public void invoke()
+  {
+    Optional<KeyUsageIndex> index = KeyUsageIndexes.open(configuration);
+    if (index.isEmpty())
+    {
+      return;
+    }
+    List<String> keys = index.get().findKeys(prefix);
+    log.info(" 📦 Found {} keys starting with '{}':", keys.size(), prefix);
+    for (String key : keys)
+    {
+      log.info("    {}", key);
+    }
+  }
+}
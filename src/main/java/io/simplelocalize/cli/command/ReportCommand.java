@@ -0,0 +1,98 @@
+package io.simplelocalize.cli.command;
+
+import io.simplelocalize.cli.client.dto.FileToUpload;
+import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ProjectProcessorFactory;
+import io.simplelocalize.cli.extraction.processor.ExtractionProcessor;
+import io.simplelocalize.cli.io.FileListReader;
+import io.simplelocalize.cli.io.TranslationFileReader;
+import io.simplelocalize.cli.report.KeysReport;
+import io.simplelocalize.cli.report.KeysReport.KeysReportCollector;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reports unused keys and missing translations by comparing extracted keys with downloaded translation files.
+ * Works offline, nothing is sent to the server.
+ */
+public class ReportCommand implements CliCommand
+{
+  private static final Logger log = LoggerFactory.getLogger(ReportCommand.class);
+
+  private static final String DEFAULT_LANGUAGE = "default";
+
+  private final Configuration configuration;
+  private KeysReport report;
+
+  public ReportCommand(Configuration configuration)
+  {
+    this.configuration = configuration;
+  }
+
+  public void invoke()
+  {
+    String downloadFormat = configuration.getDownloadFormat();
+    if (!TranslationFileReader.isSupportedFormat(downloadFormat))
+    {
+      log.error(" 😝 Report supports only '{}' and '{}' translation files, got: {}",
+              TranslationFileReader.SINGLE_LANGUAGE_JSON, TranslationFileReader.MULTI_LANGUAGE_JSON, downloadFormat);
+      return;
+    }
+
+    log.info(" 🕵️‍♂️ Running keys extraction");
+    ProjectProcessorFactory processorFactory = new ProjectProcessorFactory();
+    ExtractionProcessor extractionProcessor = processorFactory.createForType(configuration.getProjectType(), ExtractCommand.buildExtractionOptions(configuration));
+    ExtractionResult result = extractionProcessor.process(Paths.get(configuration.getSearchDir()));
+    Set<String> extractedKeys = result.getKeys();
+    KeysReportCollector collector = new KeysReportCollector(extractedKeys);
+    try
+    {
+      List<FileToUpload> translationFiles = new FileListReader().findFilesToUpload(configuration.getDownloadPath());
+      if (translationFiles.isEmpty())
+      {
+        log.warn(" 🤔 No translation files found in: {}", configuration.getDownloadPath());
+        return;
+      }
+      TranslationFileReader translationFileReader = new TranslationFileReader();
+      for (FileToUpload translationFile : translationFiles)
+      {
+        String language = StringUtils.firstNonBlank(translationFile.getLanguage(), configuration.getLanguageKey(), DEFAULT_LANGUAGE);
+        translationFileReader.readTranslations(translationFile.getPath(), downloadFormat, language, collector::addTranslation);
+      }
+    } catch (IOException e)
+    {
+      log.error(" 😝 Translation files could not be read", e);
+      return;
+    }
+
+    report = collector.toReport();
+    logReport(report, extractedKeys.size());
+  }
+
+  KeysReport getReport()
+  {
+    return report;
+  }
+
+  private static void logReport(KeysReport report, int extractedKeysCount)
+  {
+    log.info(" 📦 Found {} unique keys in project files", extractedKeysCount);
+    List<String> unusedKeys = report.getUnusedKeys();
+    log.info(" 🗑  {} keys in translation files are not used in project files", unusedKeys.size());
+    unusedKeys.forEach(key -> log.info("    {}", key));
+    for (Map.Entry<String, List<String>> entry : report.getMissingKeysByLanguage().entrySet())
+    {
+      List<String> missingKeys = entry.getValue();
+      log.info(" 🌍 {} keys have no '{}' translation", missingKeys.size(), entry.getKey());
+      missingKeys.forEach(key -> log.info("    {}", key));
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package io.simplelocalize.cli.command;
+
+import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.extraction.usage.KeyOccurrence;
+import io.simplelocalize.cli.extraction.usage.KeyUsageIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+public class WhereUsedCommand implements CliCommand
+{
+  private static final Logger log = LoggerFactory.getLogger(WhereUsedCommand.class);
+
+  private final Configuration configuration;
+  private final String key;
+
+  public WhereUsedCommand(Configuration configuration, String key)
+  {
+    this.configuration = configuration;
+    this.key = key;
+  }
+
+  public void invoke()
+  {
+    Optional<KeyUsageIndex> index = KeyUsageIndexes.open(configuration);
+    if (index.isEmpty())
+    {
+      return;
+    }
+    List<KeyOccurrence> occurrences = index.get().findOccurrences(key);
+    if (occurrences.isEmpty())
+    {
+      log.info(" 🤷 Key '{}' is not used in any of {} files", key, index.get().getFileCount());
+      return;
+    }
+    log.info(" 🔎 Key '{}' is used in {} places:", key, occurrences.size());
+    for (KeyOccurrence occurrence : occurrences)
+    {
+      log.info("    {}", occurrence.toLocation());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package io.simplelocalize.cli.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors for tasks which mostly wait for the network or disk, e.g. key uploads and file downloads.
+ * <p>
+ * This version runs tasks on a bounded pool of platform threads. The multi-release JAR replaces it on Java 21 and newer
+ * with a version from src/main/java21, which starts a virtual thread per task, so waiting tasks do not need a sized pool.
+ */
+public final class BlockingTaskExecutors
+{
+  private static final AtomicInteger executorCount = new AtomicInteger();
+
+  private BlockingTaskExecutors()
+  {
+  }
+
+  /**
+   * @param maxPlatformThreads number of threads when virtual threads are not available; tasks above it wait in a queue
+   */
+  public static ExecutorService newExecutor(int maxPlatformThreads)
+  {
+    return Executors.newFixedThreadPool(maxPlatformThreads, daemonThreadFactory());
+  }
+
+  public static boolean isVirtualThreads()
+  {
+    return false;
+  }
+
+  private static ThreadFactory daemonThreadFactory()
+  {
+    String namePrefix = "blocking-tasks-" + executorCount.incrementAndGet() + "-";
+    AtomicInteger threadCount = new AtomicInteger();
+    return task -> {
+      Thread thread = new Thread(task, namePrefix + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
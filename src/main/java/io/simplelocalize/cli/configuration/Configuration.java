@@ -1,6 +1,7 @@
 package io.simplelocalize.cli.configuration;
 
 import io.micronaut.core.annotation.Introspected;
+import io.simplelocalize.cli.extraction.ExtractionRule;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,10 +11,23 @@ public class Configuration
 {
 
   private String apiKey;
+  private String baseUrl;
 
   private String projectType;
   private String searchDir;
   private List<String> ignoreKeys = new ArrayList<>();
+  private boolean onlyNewKeys;
+  private String keysCachePath;
+  private String keysIndexPath;
+  private boolean refreshKeysIndex;
+  private String shard;
+  private String partialResultPath;
+  private List<String> mergePartialResults;
+  private String output;
+  private boolean outputLocations;
+  private List<ExtractionRule> extractionRules = new ArrayList<>();
+  private boolean includeGeneratedFiles;
+  private Long streamingThreshold;
 
   private String uploadPath;
   private String uploadFormat;
@@ -45,6 +59,16 @@ public class Configuration
     this.apiKey = apiKey;
   }
 
+  public String getBaseUrl()
+  {
+    return baseUrl;
+  }
+
+  public void setBaseUrl(String baseUrl)
+  {
+    this.baseUrl = baseUrl;
+  }
+
   public String getProjectType()
   {
     return projectType;
@@ -65,6 +89,126 @@ public class Configuration
     this.ignoreKeys = ignoreKeys;
   }
 
+  public boolean isOnlyNewKeys()
+  {
+    return onlyNewKeys;
+  }
+
+  public void setOnlyNewKeys(boolean onlyNewKeys)
+  {
+    this.onlyNewKeys = onlyNewKeys;
+  }
+
+  public String getKeysCachePath()
+  {
+    return keysCachePath;
+  }
+
+  public void setKeysCachePath(String keysCachePath)
+  {
+    this.keysCachePath = keysCachePath;
+  }
+
+  public String getKeysIndexPath()
+  {
+    return keysIndexPath;
+  }
+
+  public void setKeysIndexPath(String keysIndexPath)
+  {
+    this.keysIndexPath = keysIndexPath;
+  }
+
+  public boolean isRefreshKeysIndex()
+  {
+    return refreshKeysIndex;
+  }
+
+  public void setRefreshKeysIndex(boolean refreshKeysIndex)
+  {
+    this.refreshKeysIndex = refreshKeysIndex;
+  }
+
+  public String getShard()
+  {
+    return shard;
+  }
+
+  public void setShard(String shard)
+  {
+    this.shard = shard;
+  }
+
+  public String getPartialResultPath()
+  {
+    return partialResultPath;
+  }
+
+  public void setPartialResultPath(String partialResultPath)
+  {
+    this.partialResultPath = partialResultPath;
+  }
+
+  public List<String> getMergePartialResults()
+  {
+    return mergePartialResults;
+  }
+
+  public void setMergePartialResults(List<String> mergePartialResults)
+  {
+    this.mergePartialResults = mergePartialResults;
+  }
+
+  public String getOutput()
+  {
+    return output;
+  }
+
+  public void setOutput(String output)
+  {
+    this.output = output;
+  }
+
+  public boolean isOutputLocations()
+  {
+    return outputLocations;
+  }
+
+  public void setOutputLocations(boolean outputLocations)
+  {
+    this.outputLocations = outputLocations;
+  }
+
+  public List<ExtractionRule> getExtractionRules()
+  {
+    return extractionRules;
+  }
+
+  public void setExtractionRules(List<ExtractionRule> extractionRules)
+  {
+    this.extractionRules = extractionRules;
+  }
+
+  public boolean isIncludeGeneratedFiles()
+  {
+    return includeGeneratedFiles;
+  }
+
+  public void setIncludeGeneratedFiles(boolean includeGeneratedFiles)
+  {
+    this.includeGeneratedFiles = includeGeneratedFiles;
+  }
+
+  public Long getStreamingThreshold()
+  {
+    return streamingThreshold;
+  }
+
+  public void setStreamingThreshold(Long streamingThreshold)
+  {
+    this.streamingThreshold = streamingThreshold;
+  }
+
   public String getUploadPath()
   {
     return uploadPath;
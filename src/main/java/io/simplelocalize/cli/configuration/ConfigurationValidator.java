@@ -23,6 +23,17 @@ public final class ConfigurationValidator
     validateIsNotEmptyOrNull(configuration.getDownloadPath(), "downloadPath");
   }
 
+  public void validateReportConfiguration(Configuration configuration)
+  {
+    if (configuration.getExtractionRules().isEmpty())
+    {
+      validateIsNotEmptyOrNull(configuration.getProjectType(), "projectType");
+    }
+    validateIsNotEmptyOrNull(configuration.getSearchDir(), "searchDir");
+    validateIsNotEmptyOrNull(configuration.getDownloadFormat(), "downloadFormat");
+    validateIsNotEmptyOrNull(configuration.getDownloadPath(), "downloadPath");
+  }
+
   private void validateIsNotEmptyOrNull(String format, String argumentName)
   {
 
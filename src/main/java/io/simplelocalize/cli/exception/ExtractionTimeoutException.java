@@ -0,0 +1,9 @@
+package io.simplelocalize.cli.exception;
+
+public class ExtractionTimeoutException extends RuntimeException
+{
+  public ExtractionTimeoutException(String message)
+  {
+    super(message);
+  }
+}
@@ -0,0 +1,14 @@
+package io.simplelocalize.cli.exception;
+
+public class PartialResultException extends RuntimeException
+{
+  public PartialResultException(String message)
+  {
+    super(message);
+  }
+
+  public PartialResultException(String message, Throwable cause)
+  {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,370 @@
+package io.simplelocalize.cli.extraction;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of keys stored as sorted, front-coded UTF-8 bytes.
+ * <p>
+ * Keys are ordered by code point. Each key stores only the suffix which differs from the previous key;
+ * every {@value #RESTART_INTERVAL}th key is stored in full, so lookups binary search those and decode at most one block.
+ * Strings are created only while iterating, so the set keeps no String objects alive.
+ */
+public final class CompactKeySet extends AbstractSet<String>
+{
+  private static final int RESTART_INTERVAL = 16;
+  private static final CompactKeySet EMPTY = new Builder().build();
+
+  private final byte[] data;
+  private final int[] restartOffsets;
+  private final int size;
+
+  private CompactKeySet(byte[] data, int[] restartOffsets, int size)
+  {
+    this.data = data;
+    this.restartOffsets = restartOffsets;
+    this.size = size;
+  }
+
+  public static CompactKeySet empty()
+  {
+    return EMPTY;
+  }
+
+  public static CompactKeySet copyOf(Collection<String> keys)
+  {
+    if (keys instanceof CompactKeySet)
+    {
+      return (CompactKeySet) keys;
+    }
+    byte[][] encodedKeys = new byte[keys.size()][];
+    int count = 0;
+    for (String key : keys)
+    {
+      encodedKeys[count++] = key.getBytes(StandardCharsets.UTF_8);
+    }
+    Arrays.sort(encodedKeys, 0, count, Arrays::compareUnsigned);
+
+    Builder builder = new Builder();
+    for (int i = 0; i < count; i++)
+    {
+      if (i == 0 || Arrays.compareUnsigned(encodedKeys[i - 1], encodedKeys[i]) != 0)
+      {
+        builder.add(encodedKeys[i], encodedKeys[i].length);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Merges two sets in a single linear pass without decoding keys to Strings.
+   */
+  public static CompactKeySet union(CompactKeySet first, CompactKeySet second)
+  {
+    if (second.isEmpty())
+    {
+      return first;
+    }
+    if (first.isEmpty())
+    {
+      return second;
+    }
+    Builder builder = new Builder();
+    Cursor firstCursor = first.cursor();
+    Cursor secondCursor = second.cursor();
+    boolean hasFirst = firstCursor.next();
+    boolean hasSecond = secondCursor.next();
+    while (hasFirst || hasSecond)
+    {
+      int comparison = !hasFirst ? 1 : !hasSecond ? -1 : firstCursor.compareTo(secondCursor);
+      if (comparison <= 0)
+      {
+        builder.add(firstCursor.key, firstCursor.length);
+        hasFirst = firstCursor.next();
+        if (comparison == 0)
+        {
+          hasSecond = secondCursor.next();
+        }
+      } else
+      {
+        builder.add(secondCursor.key, secondCursor.length);
+        hasSecond = secondCursor.next();
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public int size()
+  {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o)
+  {
+    if (!(o instanceof String) || size == 0)
+    {
+      return false;
+    }
+    byte[] query = ((String) o).getBytes(StandardCharsets.UTF_8);
+
+    int low = 0;
+    int high = restartOffsets.length - 1;
+    while (low < high)
+    {
+      int middle = (low + high + 1) >>> 1;
+      if (compareRestartKey(middle, query) <= 0)
+      {
+        low = middle;
+      } else
+      {
+        high = middle - 1;
+      }
+    }
+
+    Cursor cursor = new Cursor(restartOffsets[low], Math.min(RESTART_INTERVAL, size - low * RESTART_INTERVAL));
+    while (cursor.next())
+    {
+      int comparison = Arrays.compareUnsigned(cursor.key, 0, cursor.length, query, 0, query.length);
+      if (comparison == 0)
+      {
+        return true;
+      }
+      if (comparison > 0)
+      {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterator<String> iterator()
+  {
+    Cursor cursor = cursor();
+    return new Iterator<>()
+    {
+      private boolean hasNext = cursor.next();
+
+      @Override
+      public boolean hasNext()
+      {
+        return hasNext;
+      }
+
+      @Override
+      public String next()
+      {
+        if (!hasNext)
+        {
+          throw new NoSuchElementException();
+        }
+        String key = new String(cursor.key, 0, cursor.length, StandardCharsets.UTF_8);
+        hasNext = cursor.next();
+        return key;
+      }
+    };
+  }
+
+  /**
+   * Number of bytes holding the keys, for diagnostics.
+   */
+  public int getStorageSize()
+  {
+    return data.length + restartOffsets.length * Integer.BYTES;
+  }
+
+  void writeTo(DataOutput output) throws IOException
+  {
+    output.writeInt(size);
+    output.writeInt(restartOffsets.length);
+    for (int restartOffset : restartOffsets)
+    {
+      output.writeInt(restartOffset);
+    }
+    output.writeInt(data.length);
+    output.write(data);
+  }
+
+  static CompactKeySet readFrom(DataInput input) throws IOException
+  {
+    int size = input.readInt();
+    int restartCount = input.readInt();
+    if (size < 0 || restartCount != (size + RESTART_INTERVAL - 1) / RESTART_INTERVAL)
+    {
+      throw new IOException("Corrupted key set");
+    }
+    int[] restartOffsets = new int[restartCount];
+    for (int i = 0; i < restartCount; i++)
+    {
+      restartOffsets[i] = input.readInt();
+    }
+    int dataLength = input.readInt();
+    if (dataLength < 0)
+    {
+      throw new IOException("Corrupted key set");
+    }
+    byte[] data = new byte[dataLength];
+    input.readFully(data);
+    return size == 0 ? EMPTY : new CompactKeySet(data, restartOffsets, size);
+  }
+
+  private int compareRestartKey(int restart, byte[] query)
+  {
+    int offset = restartOffsets[restart];
+    offset = skipVarInt(offset);
+    int length = readVarInt(offset);
+    offset = skipVarInt(offset);
+    return Arrays.compareUnsigned(data, offset, offset + length, query, 0, query.length);
+  }
+
+  private Cursor cursor()
+  {
+    return new Cursor(0, size);
+  }
+
+  private int readVarInt(int offset)
+  {
+    int value = 0;
+    int shift = 0;
+    byte current;
+    do
+    {
+      current = data[offset++];
+      value |= (current & 0x7F) << shift;
+      shift += 7;
+    } while (current < 0);
+    return value;
+  }
+
+  private int skipVarInt(int offset)
+  {
+    while (data[offset] < 0)
+    {
+      offset++;
+    }
+    return offset + 1;
+  }
+
+  /**
+   * Decodes keys one by one into a reused buffer.
+   */
+  private final class Cursor
+  {
+    private byte[] key = new byte[64];
+    private int length;
+    private int offset;
+    private int remaining;
+
+    private Cursor(int offset, int count)
+    {
+      this.offset = offset;
+      this.remaining = count;
+    }
+
+    private boolean next()
+    {
+      if (remaining == 0)
+      {
+        return false;
+      }
+      remaining--;
+      int sharedLength = readVarInt(offset);
+      offset = skipVarInt(offset);
+      int suffixLength = readVarInt(offset);
+      offset = skipVarInt(offset);
+      if (key.length < sharedLength + suffixLength)
+      {
+        key = Arrays.copyOf(key, Math.max(key.length * 2, sharedLength + suffixLength));
+      }
+      System.arraycopy(data, offset, key, sharedLength, suffixLength);
+      offset += suffixLength;
+      length = sharedLength + suffixLength;
+      return true;
+    }
+
+    private int compareTo(Cursor other)
+    {
+      return Arrays.compareUnsigned(key, 0, length, other.key, 0, other.length);
+    }
+  }
+
+  /**
+   * Accepts keys in strictly ascending order.
+   */
+  private static final class Builder
+  {
+    private byte[] data = new byte[256];
+    private int dataLength;
+    private int[] restartOffsets = new int[16];
+    private int restartCount;
+    private byte[] previous = new byte[0];
+    private int previousLength;
+    private int size;
+
+    private void add(byte[] key, int length)
+    {
+      int sharedLength = 0;
+      if (size % RESTART_INTERVAL == 0)
+      {
+        if (restartCount == restartOffsets.length)
+        {
+          restartOffsets = Arrays.copyOf(restartOffsets, restartCount * 2);
+        }
+        restartOffsets[restartCount++] = dataLength;
+      } else
+      {
+        int maxShared = Math.min(previousLength, length);
+        while (sharedLength < maxShared && previous[sharedLength] == key[sharedLength])
+        {
+          sharedLength++;
+        }
+      }
+      int suffixLength = length - sharedLength;
+      ensureCapacity(10 + suffixLength);
+      writeVarInt(sharedLength);
+      writeVarInt(suffixLength);
+      System.arraycopy(key, sharedLength, data, dataLength, suffixLength);
+      dataLength += suffixLength;
+
+      if (previous.length < length)
+      {
+        previous = new byte[Math.max(length, previous.length * 2)];
+      }
+      System.arraycopy(key, 0, previous, 0, length);
+      previousLength = length;
+      size++;
+    }
+
+    private void ensureCapacity(int additional)
+    {
+      if (dataLength + additional > data.length)
+      {
+        data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + additional));
+      }
+    }
+
+    private void writeVarInt(int value)
+    {
+      while ((value & ~0x7F) != 0)
+      {
+        data[dataLength++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      data[dataLength++] = (byte) value;
+    }
+
+    private CompactKeySet build()
+    {
+      return new CompactKeySet(Arrays.copyOf(data, dataLength), Arrays.copyOf(restartOffsets, restartCount), size);
+    }
+  }
+}
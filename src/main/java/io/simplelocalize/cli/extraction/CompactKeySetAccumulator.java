@@ -0,0 +1,75 @@
+package io.simplelocalize.cli.extraction;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects keys from many threads into a {@link CompactKeySet} without ever holding all of them as Strings.
+ * <p>
+ * Every thread fills its own small batch of keys; a full batch is encoded into a run, and runs of similar size are
+ * merged with {@link CompactKeySet#union}, so each key is encoded again only a logarithmic number of times.
+ */
+final class CompactKeySetAccumulator
+{
+  static final int BATCH_SIZE = 4096;
+
+  private final Queue<Set<String>> batches = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<Set<String>> threadBatch = ThreadLocal.withInitial(this::newBatch);
+  private final Deque<CompactKeySet> runs = new ArrayDeque<>();
+
+  void addAll(Collection<String> keys)
+  {
+    Set<String> batch = threadBatch.get();
+    batch.addAll(keys);
+    if (batch.size() >= BATCH_SIZE)
+    {
+      CompactKeySet run = CompactKeySet.copyOf(batch);
+      batch.clear();
+      addRun(run);
+    }
+  }
+
+  /**
+   * Returns all added keys. Must be called after all threads finished adding keys.
+   */
+  synchronized CompactKeySet toKeySet()
+  {
+    for (Set<String> batch : batches)
+    {
+      if (!batch.isEmpty())
+      {
+        addRun(CompactKeySet.copyOf(batch));
+        batch.clear();
+      }
+    }
+    CompactKeySet output = CompactKeySet.empty();
+    while (!runs.isEmpty())
+    {
+      output = CompactKeySet.union(runs.pollLast(), output);
+    }
+    runs.addLast(output);
+    return output;
+  }
+
+  private synchronized void addRun(CompactKeySet run)
+  {
+    CompactKeySet merged = run;
+    while (!runs.isEmpty() && runs.peekLast().size() <= merged.size() * 2)
+    {
+      merged = CompactKeySet.union(runs.pollLast(), merged);
+    }
+    runs.addLast(merged);
+  }
+
+  private Set<String> newBatch()
+  {
+    Set<String> batch = new HashSet<>();
+    batches.add(batch);
+    return batch;
+  }
+}
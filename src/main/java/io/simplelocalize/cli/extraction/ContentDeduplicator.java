@@ -0,0 +1,168 @@
+package io.simplelocalize.cli.extraction;
+
+import io.simplelocalize.cli.extraction.keys.KeyExtractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reuses keys of an already scanned file for files with identical content.
+ * Files are grouped by extractor, its {@link KeyExtractor#contentKey content key} and size first,
+ * so only files sharing their size with another file are hashed.
+ */
+final class ContentDeduplicator
+{
+  private static final int READ_BUFFER_LENGTH = 64 * 1024;
+
+  private final Map<SizeGroupKey, SizeGroup> sizeGroups = new ConcurrentHashMap<>();
+  private final AtomicInteger reusedFiles = new AtomicInteger();
+
+  Set<String> extractKeys(KeyExtractor keyExtractor, Path file)
+  {
+    long size;
+    try
+    {
+      size = Files.size(file);
+    } catch (IOException e)
+    {
+      return keyExtractor.extractKeysFromFile(file);
+    }
+    SizeGroup sizeGroup = sizeGroups.computeIfAbsent(new SizeGroupKey(keyExtractor, keyExtractor.contentKey(file), size), key -> new SizeGroup());
+    return sizeGroup.extractKeys(keyExtractor, file);
+  }
+
+  int getReusedFiles()
+  {
+    return reusedFiles.get();
+  }
+
+  private final class SizeGroup
+  {
+    private final Map<String, Set<String>> keysByDigest = new ConcurrentHashMap<>();
+    private Path firstFile;
+    private Set<String> firstFileKeys;
+    private boolean isFirstFileHashed;
+
+    private Set<String> extractKeys(KeyExtractor keyExtractor, Path file)
+    {
+      if (claimFirstFile(file))
+      {
+        Set<String> keys = keyExtractor.extractKeysFromFile(file);
+        setFirstFileKeys(keys);
+        return keys;
+      }
+
+      String digest = tryDigest(file);
+      if (digest == null)
+      {
+        return keyExtractor.extractKeysFromFile(file);
+      }
+      hashFirstFile();
+      Set<String> knownKeys = keysByDigest.get(digest);
+      if (knownKeys != null)
+      {
+        reusedFiles.incrementAndGet();
+        return knownKeys;
+      }
+      Set<String> keys = keyExtractor.extractKeysFromFile(file);
+      keysByDigest.putIfAbsent(digest, keys);
+      return keys;
+    }
+
+    private synchronized boolean claimFirstFile(Path file)
+    {
+      if (firstFile != null)
+      {
+        return false;
+      }
+      firstFile = file;
+      return true;
+    }
+
+    private synchronized void setFirstFileKeys(Set<String> keys)
+    {
+      firstFileKeys = keys;
+    }
+
+    /**
+     * The first file of a size is hashed only once a second file of that size shows up, after its keys are known.
+     */
+    private synchronized void hashFirstFile()
+    {
+      if (isFirstFileHashed || firstFileKeys == null)
+      {
+        return;
+      }
+      isFirstFileHashed = true;
+      String digest = tryDigest(firstFile);
+      if (digest != null)
+      {
+        keysByDigest.putIfAbsent(digest, firstFileKeys);
+      }
+    }
+  }
+
+  private static String tryDigest(Path file)
+  {
+    try (InputStream inputStream = Files.newInputStream(file))
+    {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      byte[] buffer = new byte[READ_BUFFER_LENGTH];
+      int read;
+      while ((read = inputStream.read(buffer)) != -1)
+      {
+        messageDigest.update(buffer, 0, read);
+      }
+      StringBuilder output = new StringBuilder();
+      for (byte b : messageDigest.digest())
+      {
+        output.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return output.toString();
+    } catch (IOException e)
+    {
+      return null;
+    } catch (NoSuchAlgorithmException e)
+    {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class SizeGroupKey
+  {
+    private final KeyExtractor keyExtractor;
+    private final Object contentKey;
+    private final long size;
+
+    private SizeGroupKey(KeyExtractor keyExtractor, Object contentKey, long size)
+    {
+      this.keyExtractor = keyExtractor;
+      this.contentKey = contentKey;
+      this.size = size;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      SizeGroupKey that = (SizeGroupKey) o;
+      return keyExtractor == that.keyExtractor && Objects.equals(contentKey, that.contentKey) && size == that.size;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return Objects.hash(System.identityHashCode(keyExtractor), contentKey, size);
+    }
+  }
+}
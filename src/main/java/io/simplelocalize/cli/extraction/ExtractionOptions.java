@@ -0,0 +1,211 @@
+package io.simplelocalize.cli.extraction;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class ExtractionOptions
+{
+  public static final long DEFAULT_STREAMING_THRESHOLD = 64L * 1024 * 1024;
+  public static final int DEFAULT_PARALLEL_SCAN_THRESHOLD = 4 * 1024 * 1024;
+
+  private long streamingThreshold = DEFAULT_STREAMING_THRESHOLD;
+  private int parallelScanThreshold = DEFAULT_PARALLEL_SCAN_THRESHOLD;
+  private FileKeysCache fileKeysCache = FileKeysCache.none();
+  private ExtractionShard shard = ExtractionShard.ALL;
+  private FileKeysListener fileKeysListener = FileKeysListener.none();
+  private boolean keysRetained = true;
+  private KeyMatcher ignoredKeys = KeyMatcher.none();
+  private List<ExtractionRule> extractionRules = List.of();
+  private boolean generatedFilesExcluded = true;
+
+  private ExtractionOptions()
+  {
+  }
+
+  public static ExtractionOptions defaults()
+  {
+    return ExtractionOptionsBuilder.anExtractionOptions().build();
+  }
+
+  /**
+   * Files larger than this number of bytes are extracted in streaming mode.
+   */
+  public long getStreamingThreshold()
+  {
+    return streamingThreshold;
+  }
+
+  /**
+   * Texts longer than this number of characters are scanned by multiple fork/join tasks.
+   */
+  public int getParallelScanThreshold()
+  {
+    return parallelScanThreshold;
+  }
+
+  /**
+   * Consulted before extracting each file, and notified about keys of extracted files.
+   */
+  public FileKeysCache getFileKeysCache()
+  {
+    return fileKeysCache;
+  }
+
+  /**
+   * Only files of this shard are extracted.
+   */
+  public ExtractionShard getShard()
+  {
+    return shard;
+  }
+
+  /**
+   * Notified about keys of every processed file while extraction runs.
+   */
+  public FileKeysListener getFileKeysListener()
+  {
+    return fileKeysListener;
+  }
+
+  /**
+   * When false, keys are only passed to the listener and the extraction result holds no keys,
+   * so memory use does not grow with the number of keys.
+   */
+  public boolean isKeysRetained()
+  {
+    return keysRetained;
+  }
+
+  /**
+   * Keys matched by these rules are dropped as soon as they are extracted, before they are passed on or stored.
+   */
+  public KeyMatcher getIgnoredKeys()
+  {
+    return ignoredKeys;
+  }
+
+  /**
+   * Custom rules from the configuration file, applied in addition to extractors of the project type.
+   */
+  public List<ExtractionRule> getExtractionRules()
+  {
+    return extractionRules;
+  }
+
+  /**
+   * When true, minified bundles and generated files are skipped without extracting them.
+   */
+  public boolean isGeneratedFilesExcluded()
+  {
+    return generatedFilesExcluded;
+  }
+
+  public static final class ExtractionOptionsBuilder
+  {
+    private long streamingThreshold = DEFAULT_STREAMING_THRESHOLD;
+    private int parallelScanThreshold = DEFAULT_PARALLEL_SCAN_THRESHOLD;
+    private FileKeysCache fileKeysCache = FileKeysCache.none();
+    private ExtractionShard shard = ExtractionShard.ALL;
+    private FileKeysListener fileKeysListener = FileKeysListener.none();
+    private boolean keysRetained = true;
+    private KeyMatcher ignoredKeys = KeyMatcher.none();
+    private List<ExtractionRule> extractionRules = List.of();
+    private boolean generatedFilesExcluded = true;
+
+    private ExtractionOptionsBuilder()
+    {
+    }
+
+    public static ExtractionOptionsBuilder anExtractionOptions()
+    {
+      return new ExtractionOptionsBuilder();
+    }
+
+    public ExtractionOptionsBuilder withStreamingThreshold(long streamingThreshold)
+    {
+      this.streamingThreshold = streamingThreshold;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withParallelScanThreshold(int parallelScanThreshold)
+    {
+      this.parallelScanThreshold = parallelScanThreshold;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withFileKeysCache(FileKeysCache fileKeysCache)
+    {
+      this.fileKeysCache = fileKeysCache;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withShard(ExtractionShard shard)
+    {
+      this.shard = shard;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withFileKeysListener(FileKeysListener fileKeysListener)
+    {
+      this.fileKeysListener = fileKeysListener;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withKeysRetained(boolean keysRetained)
+    {
+      this.keysRetained = keysRetained;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withIgnoredKeys(KeyMatcher ignoredKeys)
+    {
+      this.ignoredKeys = ignoredKeys;
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withExtractionRules(List<ExtractionRule> extractionRules)
+    {
+      this.extractionRules = List.copyOf(extractionRules);
+      return this;
+    }
+
+    public ExtractionOptionsBuilder withGeneratedFilesExcluded(boolean generatedFilesExcluded)
+    {
+      this.generatedFilesExcluded = generatedFilesExcluded;
+      return this;
+    }
+
+    public ExtractionOptions build()
+    {
+      ExtractionOptions extractionOptions = new ExtractionOptions();
+      extractionOptions.streamingThreshold = this.streamingThreshold;
+      extractionOptions.parallelScanThreshold = this.parallelScanThreshold;
+      extractionOptions.fileKeysCache = this.fileKeysCache;
+      extractionOptions.shard = this.shard;
+      extractionOptions.fileKeysListener = this.fileKeysListener;
+      extractionOptions.keysRetained = this.keysRetained;
+      extractionOptions.ignoredKeys = this.ignoredKeys;
+      extractionOptions.extractionRules = this.extractionRules;
+      extractionOptions.generatedFilesExcluded = this.generatedFilesExcluded;
+      return extractionOptions;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ExtractionOptions that = (ExtractionOptions) o;
+    return streamingThreshold == that.streamingThreshold && parallelScanThreshold == that.parallelScanThreshold && fileKeysCache.equals(that.fileKeysCache) && shard.equals(that.shard)
+            && fileKeysListener.equals(that.fileKeysListener) && keysRetained == that.keysRetained
+            && ignoredKeys.equals(that.ignoredKeys) && extractionRules.equals(that.extractionRules)
+            && generatedFilesExcluded == that.generatedFilesExcluded;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(streamingThreshold, parallelScanThreshold, fileKeysCache, shard, fileKeysListener, keysRetained, ignoredKeys, extractionRules, generatedFilesExcluded);
+  }
+}
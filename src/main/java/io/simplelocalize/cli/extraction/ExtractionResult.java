@@ -7,13 +7,20 @@ import java.util.*;
 public final class ExtractionResult
 {
 
-  private final Set<String> keys;
+  private final CompactKeySet keys;
   private final List<Path> processedFiles;
+  private final List<Path> skippedFiles;
 
   public ExtractionResult(Set<String> keys, List<Path> processedFiles)
   {
-    this.keys = keys;
-    this.processedFiles = processedFiles;
+    this(keys, processedFiles, List.of());
+  }
+
+  public ExtractionResult(Set<String> keys, List<Path> processedFiles, List<Path> skippedFiles)
+  {
+    this.keys = CompactKeySet.copyOf(keys);
+    this.processedFiles = List.copyOf(processedFiles);
+    this.skippedFiles = List.copyOf(skippedFiles);
   }
 
   public static ExtractionResult of(Set<String> keys, List<Path> processedFiles)
@@ -21,14 +28,46 @@ public final class ExtractionResult
     return new ExtractionResult(keys, processedFiles);
   }
 
+  public static ExtractionResult of(Set<String> keys, List<Path> processedFiles, List<Path> skippedFiles)
+  {
+    return new ExtractionResult(keys, processedFiles, skippedFiles);
+  }
+
+  /**
+   * Merges partial results, e.g. of separate workers, without decoding keys.
+   * Merging is associative and commutative: files are kept sorted and without duplicates.
+   */
+  public static ExtractionResult merge(ExtractionResult first, ExtractionResult second)
+  {
+    return new ExtractionResult(
+            CompactKeySet.union(first.keys, second.keys),
+            mergeSorted(first.processedFiles, second.processedFiles),
+            mergeSorted(first.skippedFiles, second.skippedFiles));
+  }
+
+  /**
+   * Returns a read-only view of the keys sorted by code point.
+   */
   public Set<String> getKeys()
   {
-    return new HashSet<>(keys);
+    return keys;
   }
 
   public List<Path> getProcessedFiles()
   {
-    return new ArrayList<>(processedFiles);
+    return processedFiles;
+  }
+
+  public List<Path> getSkippedFiles()
+  {
+    return skippedFiles;
+  }
+
+  private static List<Path> mergeSorted(List<Path> first, List<Path> second)
+  {
+    SortedSet<Path> output = new TreeSet<>(first);
+    output.addAll(second);
+    return new ArrayList<>(output);
   }
 
   @Override
@@ -37,12 +76,12 @@ public final class ExtractionResult
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     ExtractionResult that = (ExtractionResult) o;
-    return keys.equals(that.keys) && processedFiles.equals(that.processedFiles);
+    return keys.equals(that.keys) && processedFiles.equals(that.processedFiles) && skippedFiles.equals(that.skippedFiles);
   }
 
   @Override
   public int hashCode()
   {
-    return Objects.hash(keys, processedFiles);
+    return Objects.hash(keys, processedFiles, skippedFiles);
   }
 }
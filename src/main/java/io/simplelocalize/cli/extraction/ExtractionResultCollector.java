@@ -0,0 +1,142 @@
+package io.simplelocalize.cli.extraction;
+
+import io.simplelocalize.cli.exception.ExtractionTimeoutException;
+import io.simplelocalize.cli.extraction.keys.KeyExtractor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs key extractors over files and collects keys, processed files and files skipped after exceeding the time budget.
+ * Files may be extracted concurrently and by several extractors; the result lists each file once, sorted by path.
+ * Keys of files with content identical to an already scanned file are reused instead of scanning the copy again,
+ * and keys known to the configured {@link FileKeysCache} are used without reading the file.
+ * Ignored keys are dropped per file, so they are never collected.
+ * Keys are encoded into a {@link CompactKeySet} while files are extracted, so all keys are never held as Strings at once.
+ * Minified and generated files of routes which skip them are skipped, unless they are included by the options.
+ * Files known to the cache were classified before they were put into it, so they are not opened again.
+ */
+public final class ExtractionResultCollector
+{
+  private static final Logger log = LoggerFactory.getLogger(ExtractionResultCollector.class);
+
+  private final CompactKeySetAccumulator keys = new CompactKeySetAccumulator();
+  private final Set<Path> processedFiles = ConcurrentHashMap.newKeySet();
+  private final Set<Path> skippedFiles = ConcurrentHashMap.newKeySet();
+  private final Set<Path> generatedFiles = ConcurrentHashMap.newKeySet();
+  private final ContentDeduplicator contentDeduplicator = new ContentDeduplicator();
+  private final FileKeysCache fileKeysCache;
+  private final FileKeysListener fileKeysListener;
+  private final boolean keysRetained;
+  private final KeyMatcher ignoredKeys;
+  private final boolean generatedFilesExcluded;
+
+  public ExtractionResultCollector()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public ExtractionResultCollector(ExtractionOptions extractionOptions)
+  {
+    this.fileKeysCache = extractionOptions.getFileKeysCache();
+    this.fileKeysListener = extractionOptions.getFileKeysListener();
+    this.keysRetained = extractionOptions.isKeysRetained();
+    this.ignoredKeys = extractionOptions.getIgnoredKeys();
+    this.generatedFilesExcluded = extractionOptions.isGeneratedFilesExcluded();
+  }
+
+  public void extract(KeyExtractor keyExtractor, List<Path> files)
+  {
+    for (Path file : files)
+    {
+      extract(keyExtractor, file);
+    }
+  }
+
+  public void extract(ExtractionRoute route, Path file)
+  {
+    extract(route.getKeyExtractor(), file, route.isGeneratedFilesSkipped());
+  }
+
+  public void extract(KeyExtractor keyExtractor, Path file)
+  {
+    extract(keyExtractor, file, false);
+  }
+
+  private void extract(KeyExtractor keyExtractor, Path file, boolean generatedFilesSkipped)
+  {
+    try
+    {
+      Set<String> fileKeys = fileKeysCache.findKeys(file);
+      if (fileKeys == null)
+      {
+        if (generatedFilesSkipped && generatedFilesExcluded && GeneratedFileClassifier.isGenerated(file))
+        {
+          generatedFiles.add(file);
+          return;
+        }
+        fileKeys = contentDeduplicator.extractKeys(keyExtractor, file);
+        fileKeysCache.putKeys(file, fileKeys);
+      }
+      fileKeys = withoutIgnoredKeys(fileKeys);
+      fileKeysListener.onFileKeys(file, fileKeys);
+      if (keysRetained)
+      {
+        keys.addAll(fileKeys);
+      }
+      processedFiles.add(file);
+    } catch (ExtractionTimeoutException e)
+    {
+      log.warn(" 🐢 Skipping file, keys extraction took too long: {}", file);
+      skippedFiles.add(file);
+    }
+  }
+
+  /**
+   * Cached and deduplicated keys stay unfiltered, so they do not depend on the ignore rules.
+   */
+  private Set<String> withoutIgnoredKeys(Set<String> fileKeys)
+  {
+    if (ignoredKeys.isEmpty())
+    {
+      return fileKeys;
+    }
+    Set<String> output = new HashSet<>();
+    for (String key : fileKeys)
+    {
+      if (!ignoredKeys.matches(key))
+      {
+        output.add(key);
+      }
+    }
+    return output;
+  }
+
+  public ExtractionResult toResult()
+  {
+    if (!generatedFiles.isEmpty())
+    {
+      log.info(" 🗜  Skipped {} minified or generated files, use '--includeGeneratedFiles' to extract them: {}", generatedFiles.size(), sorted(generatedFiles));
+    }
+    int reusedFiles = contentDeduplicator.getReusedFiles();
+    if (reusedFiles > 0)
+    {
+      log.info(" ♻️  Reused keys of {} files identical to already scanned ones", reusedFiles);
+    }
+    return ExtractionResult.of(keys.toKeySet(), sorted(processedFiles), sorted(skippedFiles));
+  }
+
+  private static List<Path> sorted(Collection<Path> files)
+  {
+    List<Path> output = new ArrayList<>(files);
+    output.sort(null);
+    return output;
+  }
+}
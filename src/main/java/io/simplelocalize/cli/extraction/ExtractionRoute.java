@@ -0,0 +1,67 @@
+package io.simplelocalize.cli.extraction;
+
+import io.simplelocalize.cli.extraction.files.JavaScriptAndTypeScriptFilesFinder;
+import io.simplelocalize.cli.extraction.keys.KeyExtractor;
+
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+/**
+ * Tells which files are passed to a key extractor during the directory walk.
+ * Directories are skipped only when no route accepts them.
+ * Only routes of JavaScript and TypeScript files skip minified bundles and generated files.
+ */
+public final class ExtractionRoute
+{
+  private final Predicate<Path> directoryFilter;
+  private final Predicate<Path> fileFilter;
+  private final KeyExtractor keyExtractor;
+  private final boolean generatedFilesSkipped;
+
+  public ExtractionRoute(Predicate<Path> directoryFilter, Predicate<Path> fileFilter, KeyExtractor keyExtractor)
+  {
+    this(directoryFilter, fileFilter, keyExtractor, false);
+  }
+
+  private ExtractionRoute(Predicate<Path> directoryFilter, Predicate<Path> fileFilter, KeyExtractor keyExtractor, boolean generatedFilesSkipped)
+  {
+    this.directoryFilter = directoryFilter;
+    this.fileFilter = fileFilter;
+    this.keyExtractor = keyExtractor;
+    this.generatedFilesSkipped = generatedFilesSkipped;
+  }
+
+  public static ExtractionRoute forJavaScriptAndTypeScript(KeyExtractor keyExtractor)
+  {
+    JavaScriptAndTypeScriptFilesFinder filesFinder = new JavaScriptAndTypeScriptFilesFinder();
+    return new ExtractionRoute(filesFinder.isNotNodeModule(), filesFinder.isFileToProcess(), keyExtractor, true);
+  }
+
+  public static ExtractionRoute forExtension(String extension, KeyExtractor keyExtractor)
+  {
+    return new ExtractionRoute(directory -> true, file -> file.toString().endsWith(extension), keyExtractor);
+  }
+
+  public Predicate<Path> getDirectoryFilter()
+  {
+    return directoryFilter;
+  }
+
+  public Predicate<Path> getFileFilter()
+  {
+    return fileFilter;
+  }
+
+  public KeyExtractor getKeyExtractor()
+  {
+    return keyExtractor;
+  }
+
+  /**
+   * Tells whether minified bundles and generated files are skipped, unless they are included by the options.
+   */
+  public boolean isGeneratedFilesSkipped()
+  {
+    return generatedFilesSkipped;
+  }
+}
@@ -0,0 +1,80 @@
+package io.simplelocalize.cli.extraction;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.util.Objects;
+
+/**
+ * Custom key pattern declared in the configuration file, e.g. for an in-house wrapper of an i18n library.
+ * Files matching the 'files' glob which contain the 'trigger' token are searched with the 'pattern' regular expression,
+ * whose first capturing group that matched is the key. Without a pattern, the key is the quoted string right after the trigger.
+ */
+@Introspected
+public class ExtractionRule
+{
+  private String files;
+  private String trigger;
+  private String pattern;
+
+  public ExtractionRule()
+  {
+  }
+
+  public ExtractionRule(String files, String trigger, String pattern)
+  {
+    this.files = files;
+    this.trigger = trigger;
+    this.pattern = pattern;
+  }
+
+  public String getFiles()
+  {
+    return files;
+  }
+
+  public void setFiles(String files)
+  {
+    this.files = files;
+  }
+
+  public String getTrigger()
+  {
+    return trigger;
+  }
+
+  public void setTrigger(String trigger)
+  {
+    this.trigger = trigger;
+  }
+
+  public String getPattern()
+  {
+    return pattern;
+  }
+
+  public void setPattern(String pattern)
+  {
+    this.pattern = pattern;
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ExtractionRule that = (ExtractionRule) o;
+    return Objects.equals(files, that.files) && Objects.equals(trigger, that.trigger) && Objects.equals(pattern, that.pattern);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(files, trigger, pattern);
+  }
+
+  @Override
+  public String toString()
+  {
+    return "ExtractionRule{files='" + files + "', trigger='" + trigger + "', pattern='" + pattern + "'}";
+  }
+}
@@ -0,0 +1,103 @@
+package io.simplelocalize.cli.extraction;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Part of the project files processed by one of several extraction runs, e.g. on parallel CI executors.
+ * Files are assigned by a hash of their path relative to the search directory, so every run assigns them the same way.
+ */
+public final class ExtractionShard
+{
+  public static final ExtractionShard ALL = new ExtractionShard(1, 1);
+
+  private final int index;
+  private final int count;
+
+  public ExtractionShard(int index, int count)
+  {
+    if (count < 1 || index < 1 || index > count)
+    {
+      throw new IllegalArgumentException("Shard index must be between 1 and shard count: " + index + "/" + count);
+    }
+    this.index = index;
+    this.count = count;
+  }
+
+  /**
+   * Parses 'index/count', e.g. '2/3', where index starts at 1.
+   */
+  public static ExtractionShard parse(String value)
+  {
+    String[] parts = value.trim().split("/");
+    if (parts.length != 2)
+    {
+      throw new IllegalArgumentException("Shard must be given as 'index/count', e.g. '1/3': " + value);
+    }
+    try
+    {
+      return new ExtractionShard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    } catch (NumberFormatException e)
+    {
+      throw new IllegalArgumentException("Shard must be given as 'index/count', e.g. '1/3': " + value, e);
+    }
+  }
+
+  public int getIndex()
+  {
+    return index;
+  }
+
+  public int getCount()
+  {
+    return count;
+  }
+
+  public boolean contains(Path searchDirectory, Path file)
+  {
+    if (count == 1)
+    {
+      return true;
+    }
+    Path relativePath = file.startsWith(searchDirectory) ? searchDirectory.relativize(file) : file;
+    String stablePath = relativePath.toString().replace(File.separatorChar, '/');
+    return Integer.remainderUnsigned(hash(stablePath), count) == index - 1;
+  }
+
+  /**
+   * FNV-1a over UTF-8 bytes, independent of JVM and platform.
+   */
+  private static int hash(String value)
+  {
+    int hash = 0x811C9DC5;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8))
+    {
+      hash ^= b & 0xFF;
+      hash *= 0x01000193;
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ExtractionShard that = (ExtractionShard) o;
+    return index == that.index && count == that.count;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(index, count);
+  }
+
+  @Override
+  public String toString()
+  {
+    return index + "/" + count;
+  }
+}
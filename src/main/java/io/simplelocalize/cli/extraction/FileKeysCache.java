@@ -0,0 +1,43 @@
+package io.simplelocalize.cli.extraction;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Lets extraction skip files whose keys are already known, and observe keys of files which were extracted.
+ * Implementations may be called concurrently.
+ */
+public interface FileKeysCache
+{
+  /**
+   * Returns keys extracted earlier from the unchanged file, or null when the file has to be extracted.
+   */
+  Set<String> findKeys(Path file);
+
+  void putKeys(Path file, Set<String> keys);
+
+  static FileKeysCache none()
+  {
+    return NoFileKeysCache.INSTANCE;
+  }
+
+  final class NoFileKeysCache implements FileKeysCache
+  {
+    private static final NoFileKeysCache INSTANCE = new NoFileKeysCache();
+
+    private NoFileKeysCache()
+    {
+    }
+
+    @Override
+    public Set<String> findKeys(Path file)
+    {
+      return null;
+    }
+
+    @Override
+    public void putKeys(Path file, Set<String> keys)
+    {
+    }
+  }
+}
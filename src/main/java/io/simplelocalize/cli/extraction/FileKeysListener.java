@@ -0,0 +1,32 @@
+package io.simplelocalize.cli.extraction;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Receives keys of each processed file as soon as they are known. Implementations may be called concurrently.
+ */
+@FunctionalInterface
+public interface FileKeysListener
+{
+  void onFileKeys(Path file, Set<String> keys);
+
+  static FileKeysListener none()
+  {
+    return NoFileKeysListener.INSTANCE;
+  }
+
+  final class NoFileKeysListener implements FileKeysListener
+  {
+    private static final NoFileKeysListener INSTANCE = new NoFileKeysListener();
+
+    private NoFileKeysListener()
+    {
+    }
+
+    @Override
+    public void onFileKeys(Path file, Set<String> keys)
+    {
+    }
+  }
+}
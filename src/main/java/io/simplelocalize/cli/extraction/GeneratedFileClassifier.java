@@ -0,0 +1,83 @@
+package io.simplelocalize.cli.extraction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Tells minified bundles, source maps and generated files apart from hand-written sources by looking at the first few KB only.
+ * Such files rarely contain keys which are not in the sources they were built from, but they are the slowest files to match.
+ * <p>
+ * A file is generated when its name contains '.min.', when a comment line of the sample starts with a generated file marker,
+ * e.g. '// @generated', '/* Auto-generated by ...' or '// Code generated ... DO NOT EDIT.',
+ * or when its lines are much longer than in hand-written code, especially with little whitespace.
+ * Markers elsewhere, e.g. in '// TODO Auto-generated method stub', '@Generated' annotations or keys, are not taken into account.
+ */
+final class GeneratedFileClassifier
+{
+  static final int SAMPLE_LENGTH = 8 * 1024;
+
+  private static final int MIN_MEASURED_SAMPLE_LENGTH = 512;
+  private static final int MAX_AVERAGE_LINE_LENGTH = 500;
+  private static final int MAX_DENSE_AVERAGE_LINE_LENGTH = 200;
+  private static final double MIN_DENSE_WHITESPACE_RATIO = 0.1;
+  private static final Pattern GENERATED_HEADER = Pattern.compile(
+          "(?m)^[ \\t]*(?://|#|/\\*+|\\*|<!--)[ \\t]*(?:@generated\\b|auto-?generated\\b|code generated .*do not edit\\.|[#@][ \\t]*sourcemappingurl=)");
+
+  private GeneratedFileClassifier()
+  {
+  }
+
+  static boolean isGenerated(Path file)
+  {
+    Path fileName = file.getFileName();
+    if (fileName != null && fileName.toString().toLowerCase(Locale.ROOT).contains(".min."))
+    {
+      return true;
+    }
+    byte[] sample;
+    try (InputStream inputStream = Files.newInputStream(file))
+    {
+      sample = inputStream.readNBytes(SAMPLE_LENGTH);
+    } catch (IOException e)
+    {
+      return false;
+    }
+    return isGenerated(sample);
+  }
+
+  static boolean isGenerated(byte[] sample)
+  {
+    String lowerCaseSample = new String(sample, StandardCharsets.ISO_8859_1).toLowerCase(Locale.ROOT);
+    if (GENERATED_HEADER.matcher(lowerCaseSample).find())
+    {
+      return true;
+    }
+    if (sample.length < MIN_MEASURED_SAMPLE_LENGTH)
+    {
+      return false;
+    }
+
+    int lines = 1;
+    int whitespaces = 0;
+    for (byte value : sample)
+    {
+      if (value == '\n')
+      {
+        lines++;
+      }
+      if (value == ' ' || value == '\t' || value == '\n' || value == '\r')
+      {
+        whitespaces++;
+      }
+    }
+    double averageLineLength = (double) sample.length / lines;
+    double whitespaceRatio = (double) whitespaces / sample.length;
+    return averageLineLength > MAX_AVERAGE_LINE_LENGTH
+            || averageLineLength > MAX_DENSE_AVERAGE_LINE_LENGTH && whitespaceRatio < MIN_DENSE_WHITESPACE_RATIO;
+  }
+}
@@ -0,0 +1,232 @@
+package io.simplelocalize.cli.extraction;
+
+import com.google.re2j.Pattern;
+import com.google.re2j.PatternSyntaxException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Matches keys against ignore rules compiled once: exact keys, globs with '*' and '?' (e.g. 'debug.*'),
+ * and RE2 regular expressions prefixed with 'regex:' (e.g. 'regex:test_[0-9]+'), which must match the whole key.
+ * <p>
+ * Exact keys are kept in a hash set. Other rules are placed in a trie under their literal prefix,
+ * so a key is compared only with rules whose prefix it starts with; rules ending with a single '*' after the prefix
+ * match without running a pattern, and the remaining rules of a trie node are combined into one pattern.
+ */
+public final class KeyMatcher
+{
+  public static final String REGEX_PREFIX = "regex:";
+
+  private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+  private static final KeyMatcher NONE = new KeyMatcher(Set.of(), new Node());
+
+  private final Set<String> exactKeys;
+  private final Node root;
+
+  private KeyMatcher(Set<String> exactKeys, Node root)
+  {
+    this.exactKeys = exactKeys;
+    this.root = root;
+  }
+
+  public static KeyMatcher none()
+  {
+    return NONE;
+  }
+
+  /**
+   * @throws IllegalArgumentException when a regular expression rule is invalid
+   */
+  public static KeyMatcher compile(Collection<String> rules)
+  {
+    if (rules.isEmpty())
+    {
+      return NONE;
+    }
+    Set<String> exactKeys = new HashSet<>();
+    Node root = new Node();
+    for (String rule : rules)
+    {
+      if (rule.startsWith(REGEX_PREFIX))
+      {
+        String regex = rule.substring(REGEX_PREFIX.length());
+        root.insert(findLiteralPrefix(regex)).addPattern(regex, rule);
+      } else if (isGlob(rule))
+      {
+        addGlob(root, rule);
+      } else
+      {
+        exactKeys.add(rule);
+      }
+    }
+    root.compilePatterns();
+    return new KeyMatcher(Set.copyOf(exactKeys), root);
+  }
+
+  public boolean isEmpty()
+  {
+    return this == NONE;
+  }
+
+  public boolean matches(String key)
+  {
+    if (exactKeys.contains(key))
+    {
+      return true;
+    }
+    Node node = root;
+    int index = 0;
+    while (true)
+    {
+      if (node.matchesAnySuffix || node.pattern != null && node.pattern.matches(key))
+      {
+        return true;
+      }
+      if (index == key.length() || node.children == null)
+      {
+        return false;
+      }
+      node = node.children.get(key.charAt(index++));
+      if (node == null)
+      {
+        return false;
+      }
+    }
+  }
+
+  private static boolean isGlob(String rule)
+  {
+    return rule.indexOf('*') >= 0 || rule.indexOf('?') >= 0;
+  }
+
+  private static void addGlob(Node root, String glob)
+  {
+    StringBuilder literalPrefix = new StringBuilder();
+    int index = 0;
+    while (index < glob.length())
+    {
+      char character = glob.charAt(index);
+      if (character == '*' || character == '?')
+      {
+        break;
+      }
+      if (character == '\\' && index + 1 < glob.length())
+      {
+        character = glob.charAt(++index);
+      }
+      literalPrefix.append(character);
+      index++;
+    }
+    Node node = root.insert(literalPrefix.toString());
+    String remainder = glob.substring(index);
+    if (remainder.equals("*"))
+    {
+      node.matchesAnySuffix = true;
+    } else
+    {
+      node.addPattern(Pattern.quote(literalPrefix.toString()) + globToRegex(remainder), glob);
+    }
+  }
+
+  private static String globToRegex(String glob)
+  {
+    StringBuilder output = new StringBuilder();
+    for (int index = 0; index < glob.length(); index++)
+    {
+      char character = glob.charAt(index);
+      if (character == '*')
+      {
+        output.append(".*");
+      } else if (character == '?')
+      {
+        output.append('.');
+      } else
+      {
+        if (character == '\\' && index + 1 < glob.length())
+        {
+          character = glob.charAt(++index);
+        }
+        output.append(Pattern.quote(String.valueOf(character)));
+      }
+    }
+    return output.toString();
+  }
+
+  /**
+   * Leading characters which every key matched by the regular expression starts with.
+   */
+  private static String findLiteralPrefix(String regex)
+  {
+    if (regex.indexOf('|') >= 0)
+    {
+      return "";
+    }
+    int length = 0;
+    while (length < regex.length() && REGEX_METACHARACTERS.indexOf(regex.charAt(length)) < 0)
+    {
+      length++;
+    }
+    boolean isLastOptional = length < regex.length() && "?*{".indexOf(regex.charAt(length)) >= 0;
+    return regex.substring(0, isLastOptional && length > 0 ? length - 1 : length);
+  }
+
+  private static final class Node
+  {
+    private Map<Character, Node> children;
+    private boolean matchesAnySuffix;
+    private List<String> regexes;
+    private Pattern pattern;
+
+    private Node insert(String literal)
+    {
+      Node node = this;
+      for (int i = 0; i < literal.length(); i++)
+      {
+        if (node.children == null)
+        {
+          node.children = new HashMap<>();
+        }
+        node = node.children.computeIfAbsent(literal.charAt(i), character -> new Node());
+      }
+      return node;
+    }
+
+    private void addPattern(String regex, String rule)
+    {
+      try
+      {
+        Pattern.compile(regex);
+      } catch (PatternSyntaxException e)
+      {
+        throw new IllegalArgumentException("Invalid ignore keys rule: " + rule, e);
+      }
+      if (regexes == null)
+      {
+        regexes = new ArrayList<>();
+      }
+      regexes.add(regex);
+    }
+
+    private void compilePatterns()
+    {
+      if (regexes != null && !matchesAnySuffix)
+      {
+        pattern = Pattern.compile(regexes.stream()
+                .map(regex -> "(?:" + regex + ")")
+                .collect(Collectors.joining("|")));
+      }
+      regexes = null;
+      if (children != null)
+      {
+        children.values().forEach(Node::compilePatterns);
+      }
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package io.simplelocalize.cli.extraction;
+
+import io.simplelocalize.cli.exception.PartialResultException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Extraction result of one shard, stored in a file until results of all shards are merged and uploaded.
+ * Keys are stored in the front-coded form of {@link CompactKeySet}.
+ */
+public final class PartialExtractionResult
+{
+  private static final int MAGIC = 0x534C5052;
+  private static final int VERSION = 1;
+  private static final String NO_PROJECT_TYPE = "";
+
+  private final String projectType;
+  private final ExtractionShard shard;
+  private final ExtractionResult result;
+
+  public PartialExtractionResult(String projectType, ExtractionShard shard, ExtractionResult result)
+  {
+    this.projectType = projectType;
+    this.shard = shard;
+    this.result = result;
+  }
+
+  public String getProjectType()
+  {
+    return projectType;
+  }
+
+  public ExtractionShard getShard()
+  {
+    return shard;
+  }
+
+  public ExtractionResult getResult()
+  {
+    return result;
+  }
+
+  public void write(Path path) throws IOException
+  {
+    Path parentDirectory = path.toAbsolutePath().getParent();
+    if (parentDirectory != null)
+    {
+      Files.createDirectories(parentDirectory);
+    }
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path))))
+    {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      writeString(output, projectType != null ? projectType : NO_PROJECT_TYPE);
+      output.writeInt(shard.getIndex());
+      output.writeInt(shard.getCount());
+      CompactKeySet.copyOf(result.getKeys()).writeTo(output);
+      writePaths(output, result.getProcessedFiles());
+      writePaths(output, result.getSkippedFiles());
+    }
+  }
+
+  public static PartialExtractionResult read(Path path) throws IOException
+  {
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path))))
+    {
+      if (input.readInt() != MAGIC || input.readInt() != VERSION)
+      {
+        throw new IOException("Unsupported partial extraction result format: " + path);
+      }
+      String projectType = readString(input);
+      if (projectType.equals(NO_PROJECT_TYPE))
+      {
+        projectType = null;
+      }
+      ExtractionShard shard = new ExtractionShard(input.readInt(), input.readInt());
+      CompactKeySet keys = CompactKeySet.readFrom(input);
+      List<Path> processedFiles = readPaths(input);
+      List<Path> skippedFiles = readPaths(input);
+      return new PartialExtractionResult(projectType, shard, ExtractionResult.of(keys, processedFiles, skippedFiles));
+    } catch (IllegalArgumentException e)
+    {
+      throw new IOException("Corrupted partial extraction result: " + path, e);
+    }
+  }
+
+  /**
+   * Merges results of all shards of one extraction. The result does not depend on the order of partial results.
+   */
+  public static ExtractionResult merge(List<PartialExtractionResult> partialResults)
+  {
+    if (partialResults.isEmpty())
+    {
+      throw new PartialResultException("No partial extraction results to merge");
+    }
+    PartialExtractionResult first = partialResults.get(0);
+    int shardCount = first.shard.getCount();
+    SortedSet<Integer> missingShards = new TreeSet<>();
+    for (int index = 1; index <= shardCount; index++)
+    {
+      missingShards.add(index);
+    }
+    ExtractionResult output = ExtractionResult.of(CompactKeySet.empty(), List.of());
+    for (PartialExtractionResult partialResult : partialResults)
+    {
+      if (!Objects.equals(first.projectType, partialResult.projectType) || partialResult.shard.getCount() != shardCount)
+      {
+        throw new PartialResultException("Partial results come from different extractions: "
+                + first.projectType + " " + first.shard + " and " + partialResult.projectType + " " + partialResult.shard);
+      }
+      if (!missingShards.remove(partialResult.shard.getIndex()))
+      {
+        throw new PartialResultException("Duplicated partial result of shard " + partialResult.shard);
+      }
+      output = ExtractionResult.merge(output, partialResult.result);
+    }
+    if (!missingShards.isEmpty())
+    {
+      throw new PartialResultException("Missing partial results of shards " + missingShards + " out of " + shardCount);
+    }
+    return output;
+  }
+
+  private static void writePaths(DataOutputStream output, List<Path> paths) throws IOException
+  {
+    output.writeInt(paths.size());
+    for (Path path : paths)
+    {
+      writeString(output, path.toString());
+    }
+  }
+
+  private static List<Path> readPaths(DataInputStream input) throws IOException
+  {
+    int count = input.readInt();
+    if (count < 0)
+    {
+      throw new IOException("Corrupted partial extraction result");
+    }
+    List<Path> output = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+    {
+      output.add(Path.of(readString(input)));
+    }
+    return output;
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException
+  {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(DataInputStream input) throws IOException
+  {
+    int length = input.readInt();
+    if (length < 0)
+    {
+      throw new IOException("Corrupted partial extraction result");
+    }
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -3,23 +3,75 @@ package io.simplelocalize.cli.extraction;
 import io.simplelocalize.cli.exception.NoProcessorMatchException;
 import io.simplelocalize.cli.extraction.processor.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public final class ProjectProcessorFactory
 {
+  private static final String PROJECT_TYPE_SEPARATOR = ",";
+
   public ExtractionProcessor createForType(String projectType)
+  {
+    return createForType(projectType, ExtractionOptions.defaults());
+  }
+
+  /**
+   * Creates a processor for the project type, or for comma separated project types which are then extracted in a single directory walk.
+   * Custom extraction rules from the options are applied in the same walk; with rules, the project type may be empty.
+   */
+  public ExtractionProcessor createForType(String projectType, ExtractionOptions extractionOptions)
+  {
+    List<ExtractionRule> extractionRules = extractionOptions.getExtractionRules();
+    if (extractionRules.isEmpty())
+    {
+      return createForProjectTypes(projectType, extractionOptions);
+    }
+    ExtractionProcessor customRulesProcessor = new CustomRulesProcessor(extractionRules, extractionOptions);
+    if (projectType == null || projectType.isBlank() || projectType.trim().equalsIgnoreCase(CustomRulesProcessor.PROJECT_TYPE))
+    {
+      return customRulesProcessor;
+    }
+    return new MultiProjectProcessor(List.of(createForProjectTypes(projectType, extractionOptions), customRulesProcessor), extractionOptions);
+  }
+
+  private ExtractionProcessor createForProjectTypes(String projectType, ExtractionOptions extractionOptions)
   {
     Objects.requireNonNull(projectType, "Could not create ProjectProcessor for null project type");
 
+    if (projectType.contains(PROJECT_TYPE_SEPARATOR))
+    {
+      List<ExtractionProcessor> processors = new ArrayList<>();
+      Set<String> projectTypes = new LinkedHashSet<>();
+      for (String singleProjectType : projectType.split(PROJECT_TYPE_SEPARATOR))
+      {
+        String trimmedProjectType = singleProjectType.trim();
+        if (!trimmedProjectType.isEmpty() && projectTypes.add(trimmedProjectType.toLowerCase(Locale.ROOT)))
+        {
+          processors.add(createForSingleType(trimmedProjectType, extractionOptions));
+        }
+      }
+      if (processors.isEmpty())
+      {
+        throw new NoProcessorMatchException("Could not find matching project processor for type: " + projectType);
+      }
+      return processors.size() == 1 ? processors.get(0) : new MultiProjectProcessor(processors, extractionOptions);
+    }
+    return createForSingleType(projectType, extractionOptions);
+  }
+
+  private ExtractionProcessor createForSingleType(String projectType, ExtractionOptions extractionOptions)
+  {
     Set<ExtractionProcessor> processors = Set.of(
-            new YahooReactIntlProcessor(),
-            new AndroidProcessor(),
-            new iOSProcessor(),
-            new EjsProcessor(),
-            new IEighteenNextProcessor()
+            new YahooReactIntlProcessor(extractionOptions),
+            new AndroidProcessor(extractionOptions),
+            new iOSProcessor(extractionOptions),
+            new EjsProcessor(extractionOptions),
+            new IEighteenNextProcessor(extractionOptions)
     );
 
     List<String> supportedProjectTypesList = processors.stream().map(ExtractionProcessor::getProjectTypeSupport).collect(Collectors.toList());
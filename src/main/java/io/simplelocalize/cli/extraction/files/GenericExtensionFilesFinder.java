@@ -1,23 +1,19 @@
 package io.simplelocalize.cli.extraction.files;
 
 import io.simplelocalize.cli.exception.ProjectProcessException;
+import io.simplelocalize.cli.io.DirectoryCrawler;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class GenericExtensionFilesFinder {
 
   public List<Path> findFilesToProcess(Path path, String extension) {
-    try (Stream<Path> walk = Files.walk(path)) {
-      return walk
-              .filter(Files::isRegularFile)
-              .filter(hasExtension(extension))
-              .collect(Collectors.toList());
+    try {
+      DirectoryCrawler directoryCrawler = new DirectoryCrawler();
+      return directoryCrawler.findFiles(path, hasExtension(extension));
     } catch (IOException e) {
       throw new ProjectProcessException("Could not process files in path: " + path, e);
     }
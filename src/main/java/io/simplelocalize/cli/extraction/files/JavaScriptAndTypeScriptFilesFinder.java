@@ -1,14 +1,12 @@
 package io.simplelocalize.cli.extraction.files;
 
 import io.simplelocalize.cli.exception.ProjectProcessException;
+import io.simplelocalize.cli.io.DirectoryCrawler;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class JavaScriptAndTypeScriptFilesFinder implements FilesFinder
 {
@@ -18,13 +16,10 @@ public class JavaScriptAndTypeScriptFilesFinder implements FilesFinder
   @Override
   public List<Path> findFilesToProcess(Path path)
   {
-    try (Stream<Path> walk = Files.walk(path))
+    try
     {
-      return walk
-              .filter(Files::isRegularFile)
-              .filter(isNotNodeModule())
-              .filter(isJavaScriptOrTypeScriptFile())
-              .collect(Collectors.toList());
+      DirectoryCrawler directoryCrawler = new DirectoryCrawler();
+      return directoryCrawler.findFiles(path, Integer.MAX_VALUE, isNotNodeModule(), isFileToProcess());
     } catch (IOException e)
     {
       throw new ProjectProcessException("Could not process files in path: " + path, e);
@@ -33,7 +28,12 @@ public class JavaScriptAndTypeScriptFilesFinder implements FilesFinder
 
 
 
-  private Predicate<? super Path> isNotNodeModule() {
+  public Predicate<Path> isFileToProcess()
+  {
+    return isNotNodeModule().and(isJavaScriptOrTypeScriptFile());
+  }
+
+  public Predicate<Path> isNotNodeModule() {
     return filePath -> {
       String filename = filePath.toString();
       return !filename.contains("node_modules");
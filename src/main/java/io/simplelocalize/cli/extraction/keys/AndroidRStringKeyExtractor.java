@@ -1,28 +1,49 @@
 package io.simplelocalize.cli.extraction.keys;
 
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.io.FileContent;
 import io.simplelocalize.cli.io.FileContentReader;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
+/**
+ * Files above the streaming threshold are memory-mapped instead of read, because the lexer state spans the whole file.
+ */
 public class AndroidRStringKeyExtractor implements KeyExtractor {
 
-  @Override
-  public Set<String> extractKeysFromFile(Path filePath)
+  private static final TriggerPrefilter TRIGGERS = TriggerPrefilter.anyOfIgnoringWhitespace("R.string.");
+
+  private final ExtractionOptions extractionOptions;
+
+  public AndroidRStringKeyExtractor()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public AndroidRStringKeyExtractor(ExtractionOptions extractionOptions)
   {
-    String fileContent = FileContentReader.tryReadContent(filePath);
-    fileContent = FileContentReader.transformTextToOneLine(fileContent);
-    return findAllRString(fileContent);
+    this.extractionOptions = extractionOptions;
   }
 
-  private Set<String> findAllRString(String fileContent) {
-    return Pattern.compile("(?<=R\\.string\\.)(.*?)(?=\\))")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+  @Override
+  public Set<String> extractKeysFromFile(Path filePath)
+  {
+    boolean isKotlin = filePath.toString().endsWith(".kt");
+    Set<String> output = new HashSet<>();
+    if (KeyPatterns.isAboveStreamingThreshold(filePath, extractionOptions.getStreamingThreshold()))
+    {
+      RStringReferenceScanner.findKeys(FileContentReader.tryMapBytes(filePath), isKotlin, KeyPatterns.fileDeadline(), output);
+      return output;
+    }
+    FileContent fileContent = FileContent.read(filePath);
+    if (!TRIGGERS.matches(fileContent.getBytes()))
+    {
+      return output;
+    }
+    RStringReferenceScanner.findKeys(ByteBuffer.wrap(fileContent.getBytes()), isKotlin, KeyPatterns.fileDeadline(), output);
+    return output;
   }
 }
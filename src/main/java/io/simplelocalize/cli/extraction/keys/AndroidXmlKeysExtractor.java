@@ -1,29 +1,85 @@
 package io.simplelocalize.cli.extraction.keys;
 
-import io.simplelocalize.cli.io.FileContentReader;
+import io.simplelocalize.cli.exception.ExtractionTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
+/**
+ * Streams Android XML resources with StAX and collects every attribute value referencing a string resource,
+ * like android:text, android:hint, android:contentDescription or android:title.
+ */
 public class AndroidXmlKeysExtractor implements KeyExtractor {
 
+  private static final Logger log = LoggerFactory.getLogger(AndroidXmlKeysExtractor.class);
+
+  private static final String STRING_REFERENCE_PREFIX = "@string/";
+
+  private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+    XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return xmlInputFactory;
+  });
 
   @Override
   public Set<String> extractKeysFromFile(Path filePath)
   {
-    String fileContent = FileContentReader.tryReadContent(filePath);
-    fileContent = FileContentReader.transformTextToOneLine(fileContent);
-    return findAllRString(fileContent);
+    Set<String> output = new HashSet<>();
+    long deadline = KeyPatterns.fileDeadline();
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath)))
+    {
+      XMLStreamReader reader = XML_INPUT_FACTORY.get().createXMLStreamReader(inputStream);
+      try
+      {
+        while (reader.hasNext())
+        {
+          if (reader.next() == XMLStreamConstants.START_ELEMENT)
+          {
+            findStringReferences(reader, output);
+            checkDeadline(deadline);
+          }
+        }
+      } finally
+      {
+        reader.close();
+      }
+    } catch (IOException | XMLStreamException e)
+    {
+      log.warn("Cannot read XML file from path " + filePath, e);
+    }
+    return output;
+  }
+
+  private void findStringReferences(XMLStreamReader reader, Set<String> output)
+  {
+    for (int i = 0; i < reader.getAttributeCount(); i++)
+    {
+      String value = reader.getAttributeValue(i);
+      if (value.startsWith(STRING_REFERENCE_PREFIX))
+      {
+        output.add(value.substring(STRING_REFERENCE_PREFIX.length()));
+      }
+    }
   }
 
-  private Set<String> findAllRString(String fileContent) {
-    return Pattern.compile("(?<=android:text=\"@string/)(.*?)(?=\")")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+  private void checkDeadline(long deadline)
+  {
+    if (System.nanoTime() - deadline > 0)
+    {
+      throw new ExtractionTimeoutException("Extraction time budget exceeded");
+    }
   }
 }
@@ -0,0 +1,152 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import com.google.re2j.Pattern;
+import com.google.re2j.PatternSyntaxException;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionRule;
+import io.simplelocalize.cli.io.FileContent;
+import io.simplelocalize.cli.io.TextWindows;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Extracts keys with rules declared in the configuration file.
+ * All rules which apply to a file are combined into one pattern and one trigger prefilter, so each file is scanned once
+ * however many rules there are. The combination is compiled when the first file needing it is found, and then reused.
+ */
+public class CustomRulesKeyExtractor implements KeyExtractor
+{
+  private static final String QUOTED_ARGUMENT = "\\s*(?:\"([^\"]*)\"|'([^']*)'|`([^`]*)`)";
+
+  private final List<ExtractionRule> rules;
+  private final List<PathMatcher> fileMatchers = new ArrayList<>();
+  private final Map<BitSet, CompiledRules> compiledRules = new ConcurrentHashMap<>();
+  private final ExtractionOptions extractionOptions;
+
+  /**
+   * @throws IllegalArgumentException when a rule has no files glob or trigger, or its pattern is invalid or has no capturing group
+   */
+  public CustomRulesKeyExtractor(List<ExtractionRule> rules, ExtractionOptions extractionOptions)
+  {
+    this.rules = List.copyOf(rules);
+    this.extractionOptions = extractionOptions;
+    for (ExtractionRule rule : this.rules)
+    {
+      if (StringUtils.isEmpty(rule.getFiles()) || StringUtils.isEmpty(rule.getTrigger()))
+      {
+        throw new IllegalArgumentException("Extraction rule must declare 'files' and 'trigger': " + rule);
+      }
+      Pattern pattern;
+      try
+      {
+        pattern = Pattern.compile(toRegex(rule));
+      } catch (PatternSyntaxException e)
+      {
+        throw new IllegalArgumentException("Invalid extraction rule pattern: " + rule, e);
+      }
+      if (pattern.groupCount() == 0)
+      {
+        throw new IllegalArgumentException("Extraction rule pattern must capture the key in a group: " + rule);
+      }
+      fileMatchers.add(FileSystems.getDefault().getPathMatcher("glob:" + toPathGlob(rule.getFiles())));
+    }
+  }
+
+  public boolean isFileToProcess(Path filePath)
+  {
+    return !findRulesOf(filePath).isEmpty();
+  }
+
+  @Override
+  public Set<String> extractKeysFromFile(Path filePath)
+  {
+    BitSet fileRules = findRulesOf(filePath);
+    if (fileRules.isEmpty())
+    {
+      return new HashSet<>();
+    }
+    CompiledRules compiled = compiledRules.computeIfAbsent(fileRules, this::compile);
+    Set<String> output = new HashSet<>();
+    if (KeyPatterns.isAboveStreamingThreshold(filePath, extractionOptions.getStreamingThreshold()))
+    {
+      KeyPatterns.findAllInWindows(filePath, TextWindows.Whitespaces.COLLAPSE, List.of(compiled.pattern), output);
+      return output;
+    }
+    FileContent fileContent = FileContent.read(filePath);
+    if (!compiled.triggers.matches(fileContent.getBytes()))
+    {
+      return output;
+    }
+    KeyPatterns.findAll(compiled.pattern, fileContent.getOneLineText(), KeyPatterns.fileDeadline(), extractionOptions.getParallelScanThreshold(), output);
+    return output;
+  }
+
+  /**
+   * Rules are selected by the file path, so identical files matched by different globs do not share keys.
+   */
+  @Override
+  public Object contentKey(Path filePath)
+  {
+    return findRulesOf(filePath);
+  }
+
+  private BitSet findRulesOf(Path filePath)
+  {
+    BitSet output = new BitSet(rules.size());
+    for (int i = 0; i < fileMatchers.size(); i++)
+    {
+      if (fileMatchers.get(i).matches(filePath))
+      {
+        output.set(i);
+      }
+    }
+    return output;
+  }
+
+  private CompiledRules compile(BitSet fileRules)
+  {
+    List<ExtractionRule> selectedRules = fileRules.stream().mapToObj(rules::get).collect(Collectors.toList());
+    String combinedRegex = selectedRules.stream()
+            .map(rule -> "(?:" + toRegex(rule) + ")")
+            .collect(Collectors.joining("|"));
+    String[] triggers = selectedRules.stream().map(ExtractionRule::getTrigger).toArray(String[]::new);
+    return new CompiledRules(Pattern.compile(combinedRegex), TriggerPrefilter.anyOfCollapsingWhitespace(triggers));
+  }
+
+  private static String toRegex(ExtractionRule rule)
+  {
+    String pattern = rule.getPattern();
+    return StringUtils.isEmpty(pattern) ? Pattern.quote(rule.getTrigger()) + QUOTED_ARGUMENT : pattern;
+  }
+
+  /**
+   * Relative globs match at any depth, because files are given with the search directory path in front.
+   */
+  private static String toPathGlob(String files)
+  {
+    return files.startsWith("/") || files.startsWith("**") ? files : "**/" + files;
+  }
+
+  private static final class CompiledRules
+  {
+    private final Pattern pattern;
+    private final TriggerPrefilter triggers;
+
+    private CompiledRules(Pattern pattern, TriggerPrefilter triggers)
+    {
+      this.pattern = pattern;
+      this.triggers = triggers;
+    }
+  }
+}
@@ -1,30 +1,53 @@
 package io.simplelocalize.cli.extraction.keys;
 
-import io.simplelocalize.cli.io.FileContentReader;
+import com.google.re2j.Pattern;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.io.FileContent;
+import io.simplelocalize.cli.io.TextWindows;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class EjsKeyExtractor implements KeyExtractor {
 
+  private static final Pattern I18N_OUTPUT_TAG = Pattern.compile("<%=i18n\\.(.*?)%>");
+  private static final TriggerPrefilter TRIGGERS = TriggerPrefilter.anyOfIgnoringWhitespace("<%=i18n.");
+
+  private final ExtractionOptions extractionOptions;
+
+  public EjsKeyExtractor()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public EjsKeyExtractor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
+
   @Override
   public Set<String> extractKeysFromFile(Path filePath)
   {
-    String fileContent = FileContentReader.tryReadContent(filePath);
-    fileContent = FileContentReader.transformTextToOneLine(fileContent);
+    if (KeyPatterns.isAboveStreamingThreshold(filePath, extractionOptions.getStreamingThreshold()))
+    {
+      Set<String> output = new HashSet<>();
+      KeyPatterns.findAllInWindows(filePath, TextWindows.Whitespaces.REMOVE, List.of(I18N_OUTPUT_TAG), output);
+      return output;
+    }
+    FileContent fileContent = FileContent.read(filePath);
+    if (!TRIGGERS.matches(fileContent.getBytes()))
+    {
+      return new HashSet<>();
+    }
     return matchI18n(fileContent);
 
   }
 
-  private Set<String> matchI18n(String fileContent) {
-    fileContent = fileContent.replaceAll("\\s+", "");
-    return Pattern.compile("(?<=<%=i18n\\.)(.*?)(?=%>)")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+  private Set<String> matchI18n(FileContent fileContent) {
+    Set<String> output = new HashSet<>();
+    KeyPatterns.findAll(I18N_OUTPUT_TAG, fileContent.getTextWithoutWhitespaces(), KeyPatterns.fileDeadline(), extractionOptions.getParallelScanThreshold(), output);
+    return output;
   }
 }
@@ -1,42 +1,60 @@
 package io.simplelocalize.cli.extraction.keys;
 
-import io.simplelocalize.cli.io.FileContentReader;
+import com.google.re2j.Pattern;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.io.FileContent;
+import io.simplelocalize.cli.io.TextWindows;
 
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class IEighteenNextKeyExtractor implements KeyExtractor {
 
+  private static final Pattern I18N_KEY_ATTRIBUTE = Pattern.compile("i18nKey=[\"|'](.*?)[\"|']");
+  private static final Pattern T_FUNCTION = Pattern.compile("[^a-zA-Z]t\\([\"|'](.*?)[\"|']");
+  private static final TriggerPrefilter TRIGGERS = TriggerPrefilter.anyOf("t(\"", "t('", "t(|", "i18nKey=");
+
+  private final ExtractionOptions extractionOptions;
+
+  public IEighteenNextKeyExtractor()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public IEighteenNextKeyExtractor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
+
   @Override
   public Set<String> extractKeysFromFile(Path filePath)
   {
-    String fileContent = FileContentReader.tryReadContent(filePath);
-    fileContent = FileContentReader.transformTextToOneLine(fileContent);
+    if (KeyPatterns.isAboveStreamingThreshold(filePath, extractionOptions.getStreamingThreshold()))
+    {
+      Set<String> output = new HashSet<>();
+      KeyPatterns.findAllInWindows(filePath, TextWindows.Whitespaces.COLLAPSE, List.of(T_FUNCTION, I18N_KEY_ATTRIBUTE), output);
+      return output;
+    }
+    FileContent fileContent = FileContent.read(filePath);
+    if (!TRIGGERS.matches(fileContent.getBytes()))
+    {
+      return new HashSet<>();
+    }
+    String oneLineText = fileContent.getOneLineText();
+    long deadline = KeyPatterns.fileDeadline();
     Set<String> output = new HashSet<>();
-    Set<String> ts = matchT(fileContent);
-    Set<String> i18nKeys = matchI18nKey(fileContent);
-    output.addAll(ts);
-    output.addAll(i18nKeys);
+    matchT(oneLineText, deadline, output);
+    matchI18nKey(oneLineText, deadline, output);
     return output;
   }
 
-  private Set<String> matchI18nKey(String fileContent) {
-    return Pattern.compile("(?<=i18nKey=[\"|'])(.*?)(?=[\"|'])")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+  private void matchI18nKey(String fileContent, long deadline, Set<String> output) {
+    KeyPatterns.findAll(I18N_KEY_ATTRIBUTE, fileContent, deadline, extractionOptions.getParallelScanThreshold(), output);
   }
 
-  private Set<String> matchT(String fileContent) {
-    return Pattern.compile("(?<=[^a-zA-Z]t\\([\"|'])(.*?)(?=[\"|'])")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+  private void matchT(String fileContent, long deadline, Set<String> output) {
+    KeyPatterns.findAll(T_FUNCTION, fileContent, deadline, extractionOptions.getParallelScanThreshold(), output);
   }
 }
@@ -6,4 +6,13 @@ import java.util.Set;
 public interface KeyExtractor {
 
   Set<String> extractKeysFromFile(Path filePath);
+
+  /**
+   * Returns what keys of the file depend on besides its content, e.g. rules selected by its path, or null when they
+   * depend on the content only. Keys of identical files are reused only when their content keys are equal.
+   */
+  default Object contentKey(Path filePath)
+  {
+    return null;
+  }
 }
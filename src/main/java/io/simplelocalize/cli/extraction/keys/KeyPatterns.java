@@ -0,0 +1,127 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import com.google.re2j.Matcher;
+import com.google.re2j.Pattern;
+import io.simplelocalize.cli.io.TextWindows;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs extraction rules on RE2/J, which matches in linear time and never backtracks.
+ * Every file gets a time budget, after which matching fails with ExtractionTimeoutException.
+ * Files above the streaming threshold are matched window by window, and the budget applies to each window.
+ * Texts above the parallel scan threshold are matched by multiple fork/join tasks.
+ */
+final class KeyPatterns
+{
+  static final Duration FILE_TIME_BUDGET = Duration.ofSeconds(5);
+
+  private static final int MIN_SEGMENT_LENGTH = 1 << 18;
+  private static final int SEGMENTS_PER_THREAD = 4;
+
+  private static final Logger log = LoggerFactory.getLogger(KeyPatterns.class);
+
+  private KeyPatterns()
+  {
+  }
+
+  static long fileDeadline()
+  {
+    return System.nanoTime() + FILE_TIME_BUDGET.toNanos();
+  }
+
+  static void findAll(Pattern pattern, String content, long deadlineNanos, Set<String> output)
+  {
+    Matcher matcher = pattern.matcher(new TimeBoundedCharSequence(content, deadlineNanos));
+    while (matcher.find())
+    {
+      addKey(findKey(matcher), output);
+    }
+  }
+
+  static void findAll(Pattern pattern, String content, long deadlineNanos, int parallelScanThreshold, Set<String> output)
+  {
+    if (content.length() <= parallelScanThreshold)
+    {
+      findAll(pattern, content, deadlineNanos, output);
+      return;
+    }
+    int parallelism = ForkJoinPool.getCommonPoolParallelism();
+    int segmentLength = Math.max(MIN_SEGMENT_LENGTH, content.length() / (parallelism * SEGMENTS_PER_THREAD) + 1);
+    ParallelPatternScanner.findAll(pattern, content, segmentLength, deadlineNanos, output);
+  }
+
+  /**
+   * The key is the first capturing group which matched, so alternatives of combined patterns may capture it in different groups.
+   * Returns null when no group matched, e.g. when the key group of the pattern is optional.
+   */
+  static String findKey(Matcher matcher)
+  {
+    for (int group = 1; group < matcher.groupCount(); group++)
+    {
+      String key = matcher.group(group);
+      if (key != null)
+      {
+        return key;
+      }
+    }
+    return matcher.group(matcher.groupCount());
+  }
+
+  static void addKey(String key, Set<String> output)
+  {
+    if (key != null)
+    {
+      output.add(key);
+    }
+  }
+
+  static boolean isAboveStreamingThreshold(Path filePath, long streamingThreshold)
+  {
+    try
+    {
+      return Files.size(filePath) > streamingThreshold;
+    } catch (IOException e)
+    {
+      return false;
+    }
+  }
+
+  /**
+   * Matches patterns in overlapping windows of the file, so only one window is held in memory.
+   * Keys found before a read error are kept.
+   */
+  static void findAllInWindows(Path filePath, TextWindows.Whitespaces whitespaces, List<Pattern> patterns, Set<String> output)
+  {
+    try
+    {
+      TextWindows.forEachWindow(filePath, whitespaces, (window, ownedLength) -> {
+        long deadline = fileDeadline();
+        for (Pattern pattern : patterns)
+        {
+          findAllStartingBefore(pattern, window, ownedLength, deadline, output);
+        }
+      });
+    } catch (IOException e)
+    {
+      log.warn("Cannot read file from path " + filePath, e);
+    }
+  }
+
+  private static void findAllStartingBefore(Pattern pattern, CharSequence window, int ownedLength, long deadlineNanos, Set<String> output)
+  {
+    Matcher matcher = pattern.matcher(new TimeBoundedCharSequence(window, deadlineNanos));
+    while (matcher.find() && matcher.start() < ownedLength)
+    {
+      addKey(findKey(matcher), output);
+    }
+  }
+}
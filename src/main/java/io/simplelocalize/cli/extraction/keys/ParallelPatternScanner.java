@@ -0,0 +1,153 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import com.google.re2j.Matcher;
+import com.google.re2j.Pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds pattern matches in a large text with one fork/join task per segment, giving the same matches as a sequential scan.
+ * <p>
+ * Each task scans its segment from the segment start and reports matches starting inside it.
+ * The segments are then stitched in order: a sequential scan resumes at the end of the previous match, and when that
+ * position lies between two matches of the next segment (or before its first one) the segment's matches are already
+ * the sequential ones. Only when a match spans a boundary in a way the segment scan could not see, the segment is scanned again from the resume position.
+ */
+final class ParallelPatternScanner
+{
+  private ParallelPatternScanner()
+  {
+  }
+
+  static void findAll(Pattern pattern, String content, int segmentLength, long deadlineNanos, Set<String> output)
+  {
+    List<Integer> boundaries = segmentBoundaries(content, segmentLength);
+    List<SegmentScanTask> tasks = new ArrayList<>();
+    for (int i = 0; i + 1 < boundaries.size(); i++)
+    {
+      tasks.add(new SegmentScanTask(pattern, content, boundaries.get(i), boundaries.get(i + 1), deadlineNanos));
+    }
+    ForkJoinTask.invokeAll(tasks);
+
+    int resume = 0;
+    for (SegmentScanTask task : tasks)
+    {
+      List<KeyMatch> matches = task.join();
+      List<KeyMatch> accepted = resume <= task.segmentStart ? matches : resynchronize(task, matches, resume);
+      for (KeyMatch match : accepted)
+      {
+        KeyPatterns.addKey(match.key, output);
+        resume = Math.max(resume, match.end);
+      }
+    }
+  }
+
+  private static List<KeyMatch> resynchronize(SegmentScanTask task, List<KeyMatch> matches, int resume)
+  {
+    int firstIndex = 0;
+    while (firstIndex < matches.size() && matches.get(firstIndex).start < resume)
+    {
+      firstIndex++;
+    }
+    boolean isSynchronized = firstIndex == 0 || matches.get(firstIndex - 1).end <= resume;
+    if (isSynchronized)
+    {
+      return matches.subList(firstIndex, matches.size());
+    }
+    return scan(task.pattern, task.content, resume, task.segmentEnd, task.deadlineNanos);
+  }
+
+  /**
+   * Splits the text into segments ending right after a whitespace or ';', so boundaries rarely fall inside a match.
+   */
+  static List<Integer> segmentBoundaries(String content, int segmentLength)
+  {
+    List<Integer> boundaries = new ArrayList<>();
+    boundaries.add(0);
+    int boundary = segmentLength;
+    while (boundary < content.length())
+    {
+      int tokenBoundary = boundary;
+      int searchLimit = Math.min(content.length(), boundary + segmentLength / 2);
+      while (tokenBoundary < searchLimit && !isTokenSeparator(content.charAt(tokenBoundary - 1)))
+      {
+        tokenBoundary++;
+      }
+      boundary = tokenBoundary < searchLimit ? tokenBoundary : boundary;
+      boundaries.add(boundary);
+      boundary += segmentLength;
+    }
+    boundaries.add(content.length());
+    return boundaries;
+  }
+
+  private static boolean isTokenSeparator(char value)
+  {
+    return value == ' ' || value == ';' || value == '\n';
+  }
+
+  private static List<KeyMatch> scan(Pattern pattern, String content, int from, int startLimit, long deadlineNanos)
+  {
+    List<KeyMatch> matches = new ArrayList<>();
+    if (from >= startLimit)
+    {
+      return matches;
+    }
+    Matcher matcher = pattern.matcher(new TimeBoundedCharSequence(content, deadlineNanos));
+    if (!matcher.find(from))
+    {
+      return matches;
+    }
+    do
+    {
+      if (matcher.start() >= startLimit)
+      {
+        break;
+      }
+      matches.add(new KeyMatch(matcher.start(), matcher.end(), KeyPatterns.findKey(matcher)));
+    } while (matcher.find());
+    return matches;
+  }
+
+  private static final class SegmentScanTask extends RecursiveTask<List<KeyMatch>>
+  {
+    private final Pattern pattern;
+    private final String content;
+    private final int segmentStart;
+    private final int segmentEnd;
+    private final long deadlineNanos;
+
+    private SegmentScanTask(Pattern pattern, String content, int segmentStart, int segmentEnd, long deadlineNanos)
+    {
+      this.pattern = pattern;
+      this.content = content;
+      this.segmentStart = segmentStart;
+      this.segmentEnd = segmentEnd;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    protected List<KeyMatch> compute()
+    {
+      return scan(pattern, content, segmentStart, segmentEnd, deadlineNanos);
+    }
+  }
+
+  private static final class KeyMatch
+  {
+    private final int start;
+    private final int end;
+    private final String key;
+
+    private KeyMatch(int start, int end, String key)
+    {
+      this.start = start;
+      this.end = end;
+      this.key = key;
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.exception.ExtractionTimeoutException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Single-pass Java/Kotlin lexer which finds R.string.&lt;identifier&gt; references in source bytes.
+ * Comments, string, text block and character literals are skipped, and android.R.string references are ignored.
+ * Kotlin '${...}' template expressions inside strings are scanned as code.
+ * Only the found identifiers are allocated.
+ */
+final class RStringReferenceScanner
+{
+  private static final byte[] R = "R".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] STRING = "string".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] ANDROID = "android".getBytes(StandardCharsets.US_ASCII);
+
+  private static final int DEADLINE_CHECK_MASK = 0xFFF;
+  private static final int MAX_TEMPLATE_DEPTH = 32;
+
+  private static final int NONE = 0;
+  private static final int ANDROID_QUALIFIER = 1;
+  private static final int ANDROID_QUALIFIER_DOT = 2;
+  private static final int R_CLASS = 3;
+  private static final int R_CLASS_DOT = 4;
+  private static final int STRING_CLASS = 5;
+  private static final int STRING_CLASS_DOT = 6;
+
+  private final ByteBuffer source;
+  private final int sourceLength;
+  private final boolean kotlin;
+  private final long deadlineNanos;
+  private int position;
+  private int state = NONE;
+  private int steps;
+  private int templateDepth;
+
+  private RStringReferenceScanner(ByteBuffer source, boolean kotlin, long deadlineNanos)
+  {
+    this.source = source;
+    this.sourceLength = source.limit();
+    this.kotlin = kotlin;
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * @param kotlin true for Kotlin sources, where block comments nest, raw strings have no escapes and strings contain templates
+   */
+  static void findKeys(ByteBuffer source, boolean kotlin, long deadlineNanos, Set<String> output)
+  {
+    new RStringReferenceScanner(source, kotlin, deadlineNanos).scan(output);
+  }
+
+  private void scan(Set<String> output)
+  {
+    scanCode(output, false);
+  }
+
+  /**
+   * @param template true inside a Kotlin '${...}' template expression, which ends at its closing brace
+   */
+  private void scanCode(Set<String> output, boolean template)
+  {
+    int braces = 0;
+    while (position < sourceLength)
+    {
+      if ((++steps & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadlineNanos > 0)
+      {
+        throw new ExtractionTimeoutException("Extraction time budget exceeded");
+      }
+
+      byte current = source.get(position);
+      if (isWhitespace(current))
+      {
+        position++;
+      } else if (current == '/' && peek(1) == '/')
+      {
+        skipLineComment();
+      } else if (current == '/' && peek(1) == '*')
+      {
+        skipBlockComment();
+      } else if (current == '"')
+      {
+        scanStringLiteral(output);
+        state = NONE;
+      } else if (current == '\'')
+      {
+        skipCharLiteral();
+        state = NONE;
+      } else if (current == '.')
+      {
+        position++;
+        onDot();
+      } else if (isIdentifierStart(current))
+      {
+        int start = position;
+        while (position < sourceLength && isIdentifierPart(source.get(position)))
+        {
+          position++;
+        }
+        onIdentifier(start, position, output);
+      } else if (isDigit(current))
+      {
+        while (position < sourceLength && isIdentifierPart(source.get(position)))
+        {
+          position++;
+        }
+        state = NONE;
+      } else if (template && current == '{')
+      {
+        position++;
+        braces++;
+        state = NONE;
+      } else if (template && current == '}')
+      {
+        position++;
+        state = NONE;
+        if (braces-- == 0)
+        {
+          return;
+        }
+      } else
+      {
+        position++;
+        state = NONE;
+      }
+    }
+  }
+
+  private void onDot()
+  {
+    switch (state)
+    {
+      case ANDROID_QUALIFIER:
+        state = ANDROID_QUALIFIER_DOT;
+        break;
+      case R_CLASS:
+        state = R_CLASS_DOT;
+        break;
+      case STRING_CLASS:
+        state = STRING_CLASS_DOT;
+        break;
+      default:
+        state = NONE;
+    }
+  }
+
+  private void onIdentifier(int start, int end, Set<String> output)
+  {
+    switch (state)
+    {
+      case ANDROID_QUALIFIER_DOT:
+        state = isIdentifier(start, end, R) ? NONE : initialState(start, end);
+        break;
+      case R_CLASS_DOT:
+        state = isIdentifier(start, end, STRING) ? STRING_CLASS : initialState(start, end);
+        break;
+      case STRING_CLASS_DOT:
+        output.add(decode(start, end - start, StandardCharsets.UTF_8));
+        state = NONE;
+        break;
+      default:
+        state = initialState(start, end);
+    }
+  }
+
+  private int initialState(int start, int end)
+  {
+    if (isIdentifier(start, end, R))
+    {
+      return R_CLASS;
+    }
+    if (isIdentifier(start, end, ANDROID))
+    {
+      return ANDROID_QUALIFIER;
+    }
+    return NONE;
+  }
+
+  private boolean isIdentifier(int start, int end, byte[] identifier)
+  {
+    if (end - start != identifier.length)
+    {
+      return false;
+    }
+    for (int i = 0; i < identifier.length; i++)
+    {
+      if (source.get(start + i) != identifier[i])
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void skipLineComment()
+  {
+    while (position < sourceLength && source.get(position) != '\n')
+    {
+      position++;
+    }
+  }
+
+  private void skipBlockComment()
+  {
+    position += 2;
+    int depth = 1;
+    while (position < sourceLength)
+    {
+      if (source.get(position) == '*' && peek(1) == '/')
+      {
+        position += 2;
+        if (--depth == 0)
+        {
+          return;
+        }
+      } else if (kotlin && source.get(position) == '/' && peek(1) == '*')
+      {
+        position += 2;
+        depth++;
+      } else
+      {
+        position++;
+      }
+    }
+  }
+
+  private void scanStringLiteral(Set<String> output)
+  {
+    if (peek(1) == '"' && peek(2) == '"')
+    {
+      scanTextBlock(output);
+      return;
+    }
+    position++;
+    while (position < sourceLength)
+    {
+      byte current = source.get(position);
+      if (current == '\\')
+      {
+        position += 2;
+      } else if (isTemplateStart())
+      {
+        scanTemplate(output);
+      } else if (current == '"' || current == '\n')
+      {
+        position++;
+        return;
+      } else
+      {
+        position++;
+      }
+    }
+  }
+
+  private void scanTextBlock(Set<String> output)
+  {
+    position += 3;
+    while (position < sourceLength)
+    {
+      if (source.get(position) == '\\' && !kotlin)
+      {
+        position += 2;
+      } else if (isTemplateStart())
+      {
+        scanTemplate(output);
+      } else if (source.get(position) == '"' && peek(1) == '"' && peek(2) == '"')
+      {
+        position += 3;
+        while (position < sourceLength && source.get(position) == '"')
+        {
+          position++;
+        }
+        return;
+      } else
+      {
+        position++;
+      }
+    }
+  }
+
+  /**
+   * Templates nested deeper than a few levels are skipped with the string, so the scan does not exhaust the stack.
+   */
+  private boolean isTemplateStart()
+  {
+    return kotlin && source.get(position) == '$' && peek(1) == '{' && templateDepth < MAX_TEMPLATE_DEPTH;
+  }
+
+  private void scanTemplate(Set<String> output)
+  {
+    position += 2;
+    state = NONE;
+    templateDepth++;
+    scanCode(output, true);
+    templateDepth--;
+  }
+
+  private void skipCharLiteral()
+  {
+    position++;
+    while (position < sourceLength)
+    {
+      byte current = source.get(position);
+      if (current == '\\')
+      {
+        position += 2;
+      } else if (current == '\'' || current == '\n')
+      {
+        position++;
+        return;
+      } else
+      {
+        position++;
+      }
+    }
+  }
+
+  private String decode(int start, int length, Charset charset)
+  {
+    byte[] bytes = new byte[length];
+    source.duplicate().position(start).get(bytes);
+    return new String(bytes, charset);
+  }
+
+  private int peek(int offset)
+  {
+    int index = position + offset;
+    return index < sourceLength ? source.get(index) : -1;
+  }
+
+  private static boolean isWhitespace(byte value)
+  {
+    return value == ' ' || value == '\t' || value == '\n' || value == '\r' || value == '\f';
+  }
+
+  private static boolean isDigit(byte value)
+  {
+    return value >= '0' && value <= '9';
+  }
+
+  private static boolean isIdentifierStart(byte value)
+  {
+    return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z') || value == '_' || value == '$' || value < 0;
+  }
+
+  private static boolean isIdentifierPart(byte value)
+  {
+    return isIdentifierStart(value) || isDigit(value);
+  }
+}
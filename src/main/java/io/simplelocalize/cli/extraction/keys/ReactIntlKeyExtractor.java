@@ -1,64 +1,76 @@
 package io.simplelocalize.cli.extraction.keys;
 
-import io.simplelocalize.cli.io.FileContentReader;
+import com.google.re2j.Pattern;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.io.FileContent;
+import io.simplelocalize.cli.io.TextWindows;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class ReactIntlKeyExtractor implements KeyExtractor {
 
+  private static final Pattern DEFINE_MESSAGES = Pattern.compile("defineMessages\\(\\{\\s*?\\n?\\s*?(?:[\\s?\\w]+:\\s?\\{\\s?)*?id:\\s?[\"|'](.*?)[\"|']");
+  private static final Pattern FORMATTED_HTML_MESSAGE = Pattern.compile("<FormattedHTMLMessage\\s*?(?:\\S*)\\s*?id=\"(.*?)[\"|']");
+  private static final Pattern FORMATTED_MESSAGE = Pattern.compile("<FormattedMessage\\s*?(?:\\S*)\\s*?id=\"(.*?)[\"|']");
+  private static final Pattern INTL_FORMAT_MESSAGE = Pattern.compile("intl\\.formatMessage\\(\\{id:[\"|'](.*?)[\"|']");
+  private static final TriggerPrefilter TRIGGERS = TriggerPrefilter.anyOf("<FormattedMessage", "<FormattedHTMLMessage")
+          .orIgnoringWhitespace("defineMessages({", "intl.formatMessage({id:");
+
+  private final ExtractionOptions extractionOptions;
+
+  public ReactIntlKeyExtractor()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public ReactIntlKeyExtractor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
+
   @Override
   public Set<String> extractKeysFromFile(Path filePath)
   {
-    String fileContent = FileContentReader.tryReadContent(filePath);
-    fileContent = FileContentReader.transformTextToOneLine(fileContent);
+    if (KeyPatterns.isAboveStreamingThreshold(filePath, extractionOptions.getStreamingThreshold()))
+    {
+      Set<String> output = new HashSet<>();
+      KeyPatterns.findAllInWindows(filePath, TextWindows.Whitespaces.COLLAPSE, List.of(FORMATTED_MESSAGE, FORMATTED_HTML_MESSAGE), output);
+      KeyPatterns.findAllInWindows(filePath, TextWindows.Whitespaces.REMOVE, List.of(DEFINE_MESSAGES, INTL_FORMAT_MESSAGE), output);
+      return output;
+    }
+    FileContent fileContent = FileContent.read(filePath);
+    if (!TRIGGERS.matches(fileContent.getBytes()))
+    {
+      return new HashSet<>();
+    }
 
-    Set<String> formattedMessageIds = matchFormattedMessageIds(fileContent);
-    Set<String> formattedHTMLMessageIds = matchFormattedHTMLMessageIds(fileContent);
-    Set<String> defineMessageIds = matchDefineMessageIds(fileContent);
-    Set<String> intlFormatMessageIds = matchIntlFormatMessageIds(fileContent);
-    return Stream.of(formattedMessageIds, formattedHTMLMessageIds, defineMessageIds, intlFormatMessageIds)
-            .flatMap(Set::stream)
-            .collect(Collectors.toSet());
+    long deadline = KeyPatterns.fileDeadline();
+    Set<String> output = new HashSet<>();
+    matchFormattedMessageIds(fileContent.getOneLineText(), deadline, output);
+    matchFormattedHTMLMessageIds(fileContent.getOneLineText(), deadline, output);
+    matchDefineMessageIds(fileContent.getTextWithoutWhitespaces(), deadline, output);
+    matchIntlFormatMessageIds(fileContent.getTextWithoutWhitespaces(), deadline, output);
+    return output;
 
   }
 
-  private Set<String> matchDefineMessageIds(String fileContent) {
-    fileContent = fileContent.replaceAll("\\s+", "");
-    return Pattern.compile("defineMessages\\(\\{\\s*?\\n?\\s*?(?>[\\s?\\w]+:\\s?\\{\\s?)*?id:\\s?[\"|'](.*?)(?=[\"|'])")
-            .matcher(fileContent)
-            .results()
-            .map(mapper -> mapper.group(1))
-            .collect(Collectors.toSet());
+  private void matchDefineMessageIds(String fileContent, long deadline, Set<String> output) {
+    KeyPatterns.findAll(DEFINE_MESSAGES, fileContent, deadline, extractionOptions.getParallelScanThreshold(), output);
   }
 
-  private Set<String> matchFormattedHTMLMessageIds(String fileContent) {
-    return Pattern.compile("<FormattedHTMLMessage\\s*?(?:\\S*)\\s*?id=\"(.*?)(?=[\"|'])")
-            .matcher(fileContent)
-            .results()
-            .map(mapper -> mapper.group(1))
-            .collect(Collectors.toSet());
+  private void matchFormattedHTMLMessageIds(String fileContent, long deadline, Set<String> output) {
+    KeyPatterns.findAll(FORMATTED_HTML_MESSAGE, fileContent, deadline, extractionOptions.getParallelScanThreshold(), output);
   }
 
-  private Set<String> matchFormattedMessageIds(String fileContent) {
-    return Pattern.compile("<FormattedMessage\\s*?(?:\\S*)\\s*?id=\"(.*?)(?=[\"|'])")
-            .matcher(fileContent)
-            .results()
-            .map(mapper -> mapper.group(1))
-            .collect(Collectors.toSet());
+  private void matchFormattedMessageIds(String fileContent, long deadline, Set<String> output) {
+    KeyPatterns.findAll(FORMATTED_MESSAGE, fileContent, deadline, extractionOptions.getParallelScanThreshold(), output);
   }
 
-  private Set<String> matchIntlFormatMessageIds(String fileContent) {
-    fileContent = fileContent.replaceAll("\\s+", "");
-    return Pattern.compile("(?<=intl\\.formatMessage\\(\\{id:[\"|'])(.*?)(?=[\"|'])")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+  private void matchIntlFormatMessageIds(String fileContent, long deadline, Set<String> output) {
+    KeyPatterns.findAll(INTL_FORMAT_MESSAGE, fileContent, deadline, extractionOptions.getParallelScanThreshold(), output);
   }
 
 
@@ -0,0 +1,478 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.exception.ExtractionTimeoutException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Single-pass Swift lexer which reports keys of localization call sites:
+ * NSLocalizedString("key"), String(localized: "key"), LocalizedStringKey("key") and SwiftUI Text("key").
+ * <p>
+ * Comments are skipped and string literals are read with Swift rules: escapes, multi-line """ strings
+ * with indentation stripping, and extended #"..."# delimiters. Interpolated literals are not static keys and are ignored.
+ */
+final class SwiftLocalizationScanner
+{
+  private static final byte[][] LITERAL_CALLS = {
+          "NSLocalizedString".getBytes(StandardCharsets.US_ASCII),
+          "LocalizedStringKey".getBytes(StandardCharsets.US_ASCII),
+          "Text".getBytes(StandardCharsets.US_ASCII)
+  };
+  private static final byte[] STRING = "String".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] LOCALIZED = "localized".getBytes(StandardCharsets.US_ASCII);
+
+  private static final int DEADLINE_CHECK_MASK = 0xFFF;
+
+  private static final int NONE = 0;
+  private static final int LITERAL_CALL = 1;
+  private static final int LITERAL_CALL_PAREN = 2;
+  private static final int STRING_INIT = 3;
+  private static final int STRING_INIT_PAREN = 4;
+  private static final int LOCALIZED_LABEL = 5;
+  private static final int LOCALIZED_LABEL_COLON = 6;
+
+  private final ByteBuffer source;
+  private final int sourceLength;
+  private final long deadlineNanos;
+  private int position;
+  private int steps;
+
+  private SwiftLocalizationScanner(ByteBuffer source, long deadlineNanos)
+  {
+    this.source = source;
+    this.sourceLength = source.limit();
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  static void findKeys(ByteBuffer source, long deadlineNanos, Set<String> output)
+  {
+    new SwiftLocalizationScanner(source, deadlineNanos).scan(output);
+  }
+
+  private void scan(Set<String> output)
+  {
+    int state = NONE;
+    while (position < sourceLength)
+    {
+      checkDeadline();
+      byte current = source.get(position);
+      if (isWhitespace(current))
+      {
+        position++;
+      } else if (current == '/' && peek(1) == '/')
+      {
+        skipLineComment();
+      } else if (current == '/' && peek(1) == '*')
+      {
+        skipBlockComment();
+      } else if (isStringLiteralStart())
+      {
+        boolean isKey = state == LITERAL_CALL_PAREN || state == LOCALIZED_LABEL_COLON;
+        String literal = readStringLiteral(isKey);
+        if (literal != null)
+        {
+          output.add(literal);
+        }
+        state = NONE;
+      } else if (isIdentifierStart(current))
+      {
+        int start = position;
+        while (position < sourceLength && isIdentifierPart(source.get(position)))
+        {
+          position++;
+        }
+        state = onIdentifier(state, start, position);
+      } else if (current == '(')
+      {
+        position++;
+        state = state == LITERAL_CALL ? LITERAL_CALL_PAREN : state == STRING_INIT ? STRING_INIT_PAREN : NONE;
+      } else if (current == ':')
+      {
+        position++;
+        state = state == LOCALIZED_LABEL ? LOCALIZED_LABEL_COLON : NONE;
+      } else
+      {
+        position++;
+        state = NONE;
+      }
+    }
+  }
+
+  private int onIdentifier(int state, int start, int end)
+  {
+    if (state == STRING_INIT_PAREN && isIdentifier(start, end, LOCALIZED))
+    {
+      return LOCALIZED_LABEL;
+    }
+    if (isIdentifier(start, end, STRING))
+    {
+      return STRING_INIT;
+    }
+    for (byte[] call : LITERAL_CALLS)
+    {
+      if (isIdentifier(start, end, call))
+      {
+        return LITERAL_CALL;
+      }
+    }
+    return NONE;
+  }
+
+  private boolean isStringLiteralStart()
+  {
+    int index = position;
+    while (index < sourceLength && source.get(index) == '#')
+    {
+      index++;
+    }
+    return index < sourceLength && source.get(index) == '"';
+  }
+
+  /**
+   * Reads the literal at the current position and returns its value, or null when not captured or interpolated.
+   */
+  private String readStringLiteral(boolean capture)
+  {
+    int hashes = 0;
+    while (source.get(position) == '#')
+    {
+      hashes++;
+      position++;
+    }
+    if (peek(1) == '"' && peek(2) == '"')
+    {
+      position += 3;
+      return readMultiLineLiteral(hashes, capture);
+    }
+    position++;
+
+    ByteArrayOutputStream value = capture ? new ByteArrayOutputStream() : null;
+    boolean interpolated = false;
+    while (position < sourceLength)
+    {
+      checkDeadline();
+      byte current = source.get(position);
+      if (current == '\n')
+      {
+        return null;
+      }
+      if (current == '"' && isClosingHashes(position + 1, hashes))
+      {
+        position += 1 + hashes;
+        return interpolated ? null : toString(value);
+      }
+      if (current == '\\' && isClosingHashes(position + 1, hashes))
+      {
+        position += 1 + hashes;
+        interpolated |= readEscape(value);
+      } else
+      {
+        write(value, current);
+        position++;
+      }
+    }
+    return null;
+  }
+
+  private String readMultiLineLiteral(int hashes, boolean capture)
+  {
+    int contentStart = position;
+    while (contentStart < sourceLength && source.get(contentStart) != '\n')
+    {
+      contentStart++;
+    }
+    contentStart++;
+
+    int closingQuotes = findMultiLineEnd(contentStart, hashes);
+    if (closingQuotes < 0)
+    {
+      position = sourceLength;
+      return null;
+    }
+    position = closingQuotes + 3 + hashes;
+    if (!capture)
+    {
+      return null;
+    }
+
+    int closingLineStart = closingQuotes;
+    while (closingLineStart > contentStart && (source.get(closingLineStart - 1) == ' ' || source.get(closingLineStart - 1) == '\t'))
+    {
+      closingLineStart--;
+    }
+    int indentation = closingQuotes - closingLineStart;
+    int contentEnd = Math.max(contentStart, closingLineStart - 1);
+    if (contentEnd > contentStart && source.get(contentEnd - 1) == '\r')
+    {
+      contentEnd--;
+    }
+
+    ByteArrayOutputStream value = new ByteArrayOutputStream();
+    boolean interpolated = false;
+    int index = contentStart;
+    boolean lineStart = true;
+    while (index < contentEnd)
+    {
+      if (lineStart)
+      {
+        index += Math.min(indentation, leadingWhitespace(index, contentEnd));
+        lineStart = false;
+        continue;
+      }
+      byte current = source.get(index);
+      if (current == '\\' && isClosingHashes(index + 1, hashes))
+      {
+        int afterBackslash = index + 1 + hashes;
+        if (afterBackslash < contentEnd && source.get(afterBackslash) == '\n')
+        {
+          index = afterBackslash + 1;
+          lineStart = true;
+          continue;
+        }
+        position = afterBackslash;
+        interpolated |= readEscape(value);
+        index = position;
+      } else
+      {
+        value.write(current);
+        index++;
+        lineStart = current == '\n';
+      }
+    }
+    position = closingQuotes + 3 + hashes;
+    return interpolated ? null : toString(value);
+  }
+
+  private int findMultiLineEnd(int index, int hashes)
+  {
+    while (index < sourceLength)
+    {
+      checkDeadline();
+      if (source.get(index) == '\\' && isClosingHashes(index + 1, hashes))
+      {
+        index += 2 + hashes;
+      } else if (source.get(index) == '"' && index + 2 < sourceLength && source.get(index + 1) == '"' && source.get(index + 2) == '"'
+              && isClosingHashes(index + 3, hashes))
+      {
+        return index;
+      } else
+      {
+        index++;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Reads an escape sequence after the backslash and delimiter hashes. Returns true for string interpolation.
+   */
+  private boolean readEscape(ByteArrayOutputStream value)
+  {
+    if (position >= sourceLength)
+    {
+      return false;
+    }
+    byte escaped = source.get(position++);
+    switch (escaped)
+    {
+      case '0':
+        write(value, (byte) 0);
+        return false;
+      case 't':
+        write(value, (byte) '\t');
+        return false;
+      case 'n':
+        write(value, (byte) '\n');
+        return false;
+      case 'r':
+        write(value, (byte) '\r');
+        return false;
+      case 'u':
+        readUnicodeEscape(value);
+        return false;
+      case '(':
+        skipInterpolation();
+        return true;
+      default:
+        write(value, escaped);
+        return false;
+    }
+  }
+
+  private void readUnicodeEscape(ByteArrayOutputStream value)
+  {
+    if (peek(0) != '{')
+    {
+      return;
+    }
+    int end = position + 1;
+    while (end < sourceLength && source.get(end) != '}' && source.get(end) != '\n')
+    {
+      end++;
+    }
+    String hex = decode(position + 1, end - position - 1, StandardCharsets.US_ASCII);
+    position = Math.min(end + 1, sourceLength);
+    try
+    {
+      byte[] codePoint = new String(Character.toChars(Integer.parseInt(hex, 16))).getBytes(StandardCharsets.UTF_8);
+      if (value != null)
+      {
+        value.write(codePoint, 0, codePoint.length);
+      }
+    } catch (IllegalArgumentException e)
+    {
+      // invalid escapes do not compile in Swift, keep scanning
+    }
+  }
+
+  private void skipInterpolation()
+  {
+    int depth = 1;
+    while (position < sourceLength && depth > 0)
+    {
+      checkDeadline();
+      byte current = source.get(position);
+      if (isStringLiteralStart())
+      {
+        readStringLiteral(false);
+      } else if (current == '/' && peek(1) == '*')
+      {
+        skipBlockComment();
+      } else
+      {
+        if (current == '(')
+        {
+          depth++;
+        } else if (current == ')')
+        {
+          depth--;
+        }
+        position++;
+      }
+    }
+  }
+
+  private void skipLineComment()
+  {
+    while (position < sourceLength && source.get(position) != '\n')
+    {
+      position++;
+    }
+  }
+
+  private void skipBlockComment()
+  {
+    position += 2;
+    int depth = 1;
+    while (position < sourceLength)
+    {
+      checkDeadline();
+      if (source.get(position) == '*' && peek(1) == '/')
+      {
+        position += 2;
+        if (--depth == 0)
+        {
+          return;
+        }
+      } else if (source.get(position) == '/' && peek(1) == '*')
+      {
+        position += 2;
+        depth++;
+      } else
+      {
+        position++;
+      }
+    }
+  }
+
+  private boolean isClosingHashes(int index, int hashes)
+  {
+    for (int i = 0; i < hashes; i++)
+    {
+      if (index + i >= sourceLength || source.get(index + i) != '#')
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int leadingWhitespace(int index, int end)
+  {
+    int count = 0;
+    while (index + count < end && (source.get(index + count) == ' ' || source.get(index + count) == '\t'))
+    {
+      count++;
+    }
+    return count;
+  }
+
+  private boolean isIdentifier(int start, int end, byte[] identifier)
+  {
+    if (end - start != identifier.length)
+    {
+      return false;
+    }
+    for (int i = 0; i < identifier.length; i++)
+    {
+      if (source.get(start + i) != identifier[i])
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void checkDeadline()
+  {
+    if ((++steps & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadlineNanos > 0)
+    {
+      throw new ExtractionTimeoutException("Extraction time budget exceeded");
+    }
+  }
+
+  private String decode(int start, int length, Charset charset)
+  {
+    byte[] bytes = new byte[length];
+    source.duplicate().position(start).get(bytes);
+    return new String(bytes, charset);
+  }
+
+  private int peek(int offset)
+  {
+    int index = position + offset;
+    return index < sourceLength ? source.get(index) : -1;
+  }
+
+  private static void write(ByteArrayOutputStream value, byte current)
+  {
+    if (value != null)
+    {
+      value.write(current);
+    }
+  }
+
+  private static String toString(ByteArrayOutputStream value)
+  {
+    return value == null ? null : value.toString(StandardCharsets.UTF_8);
+  }
+
+  private static boolean isWhitespace(byte value)
+  {
+    return value == ' ' || value == '\t' || value == '\n' || value == '\r' || value == '\f';
+  }
+
+  private static boolean isIdentifierStart(byte value)
+  {
+    return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z') || value == '_' || value < 0;
+  }
+
+  private static boolean isIdentifierPart(byte value)
+  {
+    return isIdentifierStart(value) || (value >= '0' && value <= '9');
+  }
+}
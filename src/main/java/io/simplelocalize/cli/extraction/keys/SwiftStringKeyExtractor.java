@@ -1,30 +1,50 @@
 package io.simplelocalize.cli.extraction.keys;
 
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.io.FileContent;
 import io.simplelocalize.cli.io.FileContentReader;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
+/**
+ * Files above the streaming threshold are memory-mapped instead of read, because the lexer state spans the whole file.
+ */
 public class SwiftStringKeyExtractor implements KeyExtractor
 {
 
-  @Override
-  public Set<String> extractKeysFromFile(Path filePath)
+  private static final TriggerPrefilter TRIGGERS = TriggerPrefilter.anyOf("NSLocalizedString", "LocalizedStringKey", "localized")
+          .orIgnoringWhitespace("Text(");
+
+  private final ExtractionOptions extractionOptions;
+
+  public SwiftStringKeyExtractor()
   {
-    String fileContent = FileContentReader.tryReadContent(filePath);
-    fileContent = FileContentReader.transformTextToOneLine(fileContent);
-    return findAllRString(fileContent);
+    this(ExtractionOptions.defaults());
   }
 
-  private Set<String> findAllRString(String fileContent)
+  public SwiftStringKeyExtractor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
+
+  @Override
+  public Set<String> extractKeysFromFile(Path filePath)
   {
-    return Pattern.compile("(?<=NSLocalizedString\\(\")(.*?)(?=\")")
-            .matcher(fileContent)
-            .results()
-            .map(MatchResult::group)
-            .collect(Collectors.toSet());
+    Set<String> output = new HashSet<>();
+    if (KeyPatterns.isAboveStreamingThreshold(filePath, extractionOptions.getStreamingThreshold()))
+    {
+      SwiftLocalizationScanner.findKeys(FileContentReader.tryMapBytes(filePath), KeyPatterns.fileDeadline(), output);
+      return output;
+    }
+    FileContent fileContent = FileContent.read(filePath);
+    if (!TRIGGERS.matches(fileContent.getBytes()))
+    {
+      return output;
+    }
+    SwiftLocalizationScanner.findKeys(ByteBuffer.wrap(fileContent.getBytes()), KeyPatterns.fileDeadline(), output);
+    return output;
   }
 }
@@ -0,0 +1,50 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.exception.ExtractionTimeoutException;
+
+/**
+ * Fails matching with {@link ExtractionTimeoutException} once the deadline has passed.
+ * Time is checked every few thousand reads, so the overhead per character stays negligible.
+ */
+final class TimeBoundedCharSequence implements CharSequence
+{
+  private static final int CHECK_INTERVAL_MASK = 0xFFF;
+
+  private final CharSequence delegate;
+  private final long deadlineNanos;
+  private int reads;
+
+  TimeBoundedCharSequence(CharSequence delegate, long deadlineNanos)
+  {
+    this.delegate = delegate;
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  @Override
+  public int length()
+  {
+    return delegate.length();
+  }
+
+  @Override
+  public char charAt(int index)
+  {
+    if ((++reads & CHECK_INTERVAL_MASK) == 0 && System.nanoTime() - deadlineNanos > 0)
+    {
+      throw new ExtractionTimeoutException("Extraction time budget exceeded");
+    }
+    return delegate.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end)
+  {
+    return new TimeBoundedCharSequence(delegate.subSequence(start, end), deadlineNanos);
+  }
+
+  @Override
+  public String toString()
+  {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,146 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.io.TextWindows.Whitespaces;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tells whether raw file bytes contain any trigger token of an extractor.
+ * Files without a trigger cannot produce keys, so they are skipped before decoding and regex matching.
+ * <p>
+ * Tokens are matched as UTF-8 bytes; a UTF-8 sequence never starts inside another one, so matching bytes is equivalent to matching text.
+ * Tokens for rules applied after whitespace removal also match when whitespace is placed between their characters,
+ * and whitespace in tokens for rules applied after whitespace collapsing matches any run of whitespace.
+ */
+final class TriggerPrefilter
+{
+  private final List<Trigger> triggers = new ArrayList<>();
+  private final boolean[] firstBytes = new boolean[256];
+  private boolean matchesAnyContent;
+
+  private TriggerPrefilter()
+  {
+  }
+
+  static TriggerPrefilter anyOf(String... tokens)
+  {
+    return new TriggerPrefilter().or(Whitespaces.KEEP, tokens);
+  }
+
+  static TriggerPrefilter anyOfIgnoringWhitespace(String... tokens)
+  {
+    return new TriggerPrefilter().or(Whitespaces.REMOVE, tokens);
+  }
+
+  /**
+   * For rules matched against text with whitespace runs collapsed to a single space.
+   */
+  static TriggerPrefilter anyOfCollapsingWhitespace(String... tokens)
+  {
+    return new TriggerPrefilter().or(Whitespaces.COLLAPSE, tokens);
+  }
+
+  TriggerPrefilter orIgnoringWhitespace(String... tokens)
+  {
+    return or(Whitespaces.REMOVE, tokens);
+  }
+
+  private TriggerPrefilter or(Whitespaces whitespaces, String... tokens)
+  {
+    for (String token : tokens)
+    {
+      String matchedToken = whitespaces == Whitespaces.COLLAPSE ? token.strip() : token;
+      if (matchedToken.isEmpty())
+      {
+        matchesAnyContent = true;
+        continue;
+      }
+      byte[] bytes = matchedToken.getBytes(StandardCharsets.UTF_8);
+      triggers.add(new Trigger(bytes, whitespaces));
+      firstBytes[bytes[0] & 0xFF] = true;
+    }
+    return this;
+  }
+
+  boolean matches(byte[] content)
+  {
+    if (matchesAnyContent)
+    {
+      return true;
+    }
+    for (int i = 0; i < content.length; i++)
+    {
+      if (!firstBytes[content[i] & 0xFF])
+      {
+        continue;
+      }
+      for (Trigger trigger : triggers)
+      {
+        if (trigger.matchesAt(content, i))
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static final class Trigger
+  {
+    private final byte[] token;
+    private final Whitespaces whitespaces;
+
+    private Trigger(byte[] token, Whitespaces whitespaces)
+    {
+      this.token = token;
+      this.whitespaces = whitespaces;
+    }
+
+    private boolean matchesAt(byte[] content, int offset)
+    {
+      int position = offset;
+      int t = 0;
+      while (t < token.length)
+      {
+        if (whitespaces == Whitespaces.COLLAPSE && isWhitespace(token[t]))
+        {
+          if (position >= content.length || !isWhitespace(content[position]))
+          {
+            return false;
+          }
+          t = skipWhitespaces(token, t);
+          position = skipWhitespaces(content, position);
+          continue;
+        }
+        if (whitespaces == Whitespaces.REMOVE && t > 0)
+        {
+          position = skipWhitespaces(content, position);
+        }
+        if (position >= content.length || content[position] != token[t])
+        {
+          return false;
+        }
+        position++;
+        t++;
+      }
+      return true;
+    }
+
+    private static int skipWhitespaces(byte[] bytes, int position)
+    {
+      int output = position;
+      while (output < bytes.length && isWhitespace(bytes[output]))
+      {
+        output++;
+      }
+      return output;
+    }
+
+    private static boolean isWhitespace(byte value)
+    {
+      return value == ' ' || value == '\t' || value == '\n' || value == 0x0B || value == '\f' || value == '\r';
+    }
+  }
+}
@@ -1,51 +1,45 @@
 package io.simplelocalize.cli.extraction.processor;
 
+import io.simplelocalize.cli.extraction.ExtractionOptions;
 import io.simplelocalize.cli.extraction.ExtractionResult;
-import io.simplelocalize.cli.extraction.files.GenericExtensionFilesFinder;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
 import io.simplelocalize.cli.extraction.keys.AndroidRStringKeyExtractor;
 import io.simplelocalize.cli.extraction.keys.AndroidXmlKeysExtractor;
-import io.simplelocalize.cli.util.ListsUtil;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 public class AndroidProcessor implements ExtractionProcessor
 {
 
+  private final ExtractionOptions extractionOptions;
 
-  @Override
-  public ExtractionResult process(Path searchDirectory)
+  public AndroidProcessor()
   {
+    this(ExtractionOptions.defaults());
+  }
 
-    Set<String> foundKeys = new LinkedHashSet<>();
-    List<Path> foundFiles = new ArrayList<>();
-
-    GenericExtensionFilesFinder filesFinder = new GenericExtensionFilesFinder();
-    List<Path> javaFiles = filesFinder.findFilesToProcess(searchDirectory, ".java");
-    List<Path> kotlinFiles = filesFinder.findFilesToProcess(searchDirectory, ".kt");
-    List<Path> combinedLists = ListsUtil.combine(javaFiles, kotlinFiles);
-    foundFiles.addAll(combinedLists);
+  public AndroidProcessor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
 
-    AndroidRStringKeyExtractor javaKeysExtractor = new AndroidRStringKeyExtractor();
-    for (Path javaFile : combinedLists)
-    {
-      Set<String> chunk = javaKeysExtractor.extractKeysFromFile(javaFile);
-      foundKeys.addAll(chunk);
-    }
+  @Override
+  public ExtractionResult process(Path searchDirectory)
+  {
+    return RoutedExtraction.process(searchDirectory, getExtractionRoutes(), extractionOptions);
+  }
 
-    List<Path> xmlFiles = filesFinder.findFilesToProcess(searchDirectory, ".xml");
-    foundFiles.addAll(xmlFiles);
+  @Override
+  public List<ExtractionRoute> getExtractionRoutes()
+  {
+    AndroidRStringKeyExtractor javaKeysExtractor = new AndroidRStringKeyExtractor(extractionOptions);
     AndroidXmlKeysExtractor xmlKeysExtractor = new AndroidXmlKeysExtractor();
-    for (Path xmlFile : xmlFiles)
-    {
-      Set<String> chunk = xmlKeysExtractor.extractKeysFromFile(xmlFile);
-      foundKeys.addAll(chunk);
-    }
-
-    return ExtractionResult.of(foundKeys, foundFiles);
+    return List.of(
+            ExtractionRoute.forExtension(".java", javaKeysExtractor),
+            ExtractionRoute.forExtension(".kt", javaKeysExtractor),
+            ExtractionRoute.forExtension(".xml", xmlKeysExtractor)
+    );
   }
 
   @Override
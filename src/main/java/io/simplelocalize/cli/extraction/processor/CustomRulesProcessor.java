@@ -0,0 +1,47 @@
+package io.simplelocalize.cli.extraction.processor;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
+import io.simplelocalize.cli.extraction.ExtractionRule;
+import io.simplelocalize.cli.extraction.files.JavaScriptAndTypeScriptFilesFinder;
+import io.simplelocalize.cli.extraction.keys.CustomRulesKeyExtractor;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Extracts keys with 'extractionRules' from the configuration file.
+ */
+public class CustomRulesProcessor implements ExtractionProcessor
+{
+  public static final String PROJECT_TYPE = "custom";
+
+  private final ExtractionOptions extractionOptions;
+  private final CustomRulesKeyExtractor keyExtractor;
+
+  public CustomRulesProcessor(List<ExtractionRule> rules, ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+    this.keyExtractor = new CustomRulesKeyExtractor(rules, extractionOptions);
+  }
+
+  @Override
+  public ExtractionResult process(Path searchDirectory)
+  {
+    return RoutedExtraction.process(searchDirectory, getExtractionRoutes(), extractionOptions);
+  }
+
+  @Override
+  public List<ExtractionRoute> getExtractionRoutes()
+  {
+    JavaScriptAndTypeScriptFilesFinder filesFinder = new JavaScriptAndTypeScriptFilesFinder();
+    return List.of(new ExtractionRoute(filesFinder.isNotNodeModule(), keyExtractor::isFileToProcess, keyExtractor));
+  }
+
+  @Override
+  public String getProjectTypeSupport()
+  {
+    return PROJECT_TYPE;
+  }
+}
@@ -1,13 +1,20 @@
 package io.simplelocalize.cli.extraction.processor;
 
 import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
 
 import java.nio.file.Path;
+import java.util.List;
 
 public interface ExtractionProcessor
 {
 
   ExtractionResult process(Path searchDirectory);
 
+  /**
+   * Files of the project type and extractors for them, so several project types can share one directory walk.
+   */
+  List<ExtractionRoute> getExtractionRoutes();
+
   String getProjectTypeSupport();
 }
@@ -1,32 +1,39 @@
 package io.simplelocalize.cli.extraction.processor;
 
+import io.simplelocalize.cli.extraction.ExtractionOptions;
 import io.simplelocalize.cli.extraction.ExtractionResult;
-import io.simplelocalize.cli.extraction.files.JavaScriptAndTypeScriptFilesFinder;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
 import io.simplelocalize.cli.extraction.keys.IEighteenNextKeyExtractor;
 
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 public class IEighteenNextProcessor implements ExtractionProcessor
 {
 
+  private final ExtractionOptions extractionOptions;
+
+  public IEighteenNextProcessor()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public IEighteenNextProcessor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
+
   @Override
   public ExtractionResult process(Path searchDirectory)
   {
-    JavaScriptAndTypeScriptFilesFinder filesFinder = new JavaScriptAndTypeScriptFilesFinder();
-    IEighteenNextKeyExtractor keyExtractor = new IEighteenNextKeyExtractor();
-
-    List<Path> foundFiles = filesFinder.findFilesToProcess(searchDirectory);
-
-    Set<String> keys = new HashSet<>();
-    for (Path file : foundFiles)
-    {
-      Set<String> batchKeys = keyExtractor.extractKeysFromFile(file);
-      keys.addAll(batchKeys);
-    }
-    return ExtractionResult.of(keys, foundFiles);
+    return RoutedExtraction.process(searchDirectory, getExtractionRoutes(), extractionOptions);
+  }
+
+  @Override
+  public List<ExtractionRoute> getExtractionRoutes()
+  {
+    IEighteenNextKeyExtractor keyExtractor = new IEighteenNextKeyExtractor(extractionOptions);
+    return List.of(ExtractionRoute.forJavaScriptAndTypeScript(keyExtractor));
   }
 
   @Override
@@ -0,0 +1,51 @@
+package io.simplelocalize.cli.extraction.processor;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Extracts keys of several project types, e.g. web and mobile apps of a monorepo, in a single directory walk.
+ */
+public class MultiProjectProcessor implements ExtractionProcessor
+{
+
+  private final List<ExtractionProcessor> processors;
+  private final ExtractionOptions extractionOptions;
+
+  public MultiProjectProcessor(List<ExtractionProcessor> processors, ExtractionOptions extractionOptions)
+  {
+    this.processors = List.copyOf(processors);
+    this.extractionOptions = extractionOptions;
+  }
+
+  @Override
+  public ExtractionResult process(Path searchDirectory)
+  {
+    return RoutedExtraction.process(searchDirectory, getExtractionRoutes(), extractionOptions);
+  }
+
+  @Override
+  public List<ExtractionRoute> getExtractionRoutes()
+  {
+    List<ExtractionRoute> routes = new ArrayList<>();
+    for (ExtractionProcessor processor : processors)
+    {
+      routes.addAll(processor.getExtractionRoutes());
+    }
+    return routes;
+  }
+
+  @Override
+  public String getProjectTypeSupport()
+  {
+    return processors.stream()
+            .map(ExtractionProcessor::getProjectTypeSupport)
+            .collect(Collectors.joining(","));
+  }
+}
@@ -0,0 +1,53 @@
+package io.simplelocalize.cli.extraction.processor;
+
+import io.simplelocalize.cli.exception.ProjectProcessException;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ExtractionResultCollector;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
+import io.simplelocalize.cli.extraction.ExtractionShard;
+import io.simplelocalize.cli.io.DirectoryCrawler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Walks the search directory once and passes each file of the shard to the extractor of every route accepting it,
+ * as soon as the file is found.
+ */
+final class RoutedExtraction
+{
+  private RoutedExtraction()
+  {
+  }
+
+  static ExtractionResult process(Path searchDirectory, List<ExtractionRoute> routes, ExtractionOptions extractionOptions)
+  {
+    ExtractionResultCollector collector = new ExtractionResultCollector(extractionOptions);
+    ExtractionShard shard = extractionOptions.getShard();
+    Predicate<Path> directoryFilter = directory -> routes.stream().anyMatch(route -> route.getDirectoryFilter().test(directory));
+    try
+    {
+      DirectoryCrawler directoryCrawler = new DirectoryCrawler();
+      directoryCrawler.crawl(searchDirectory, Integer.MAX_VALUE, directoryFilter, file -> {
+        if (!shard.contains(searchDirectory, file))
+        {
+          return;
+        }
+        for (ExtractionRoute route : routes)
+        {
+          if (route.getFileFilter().test(file))
+          {
+            collector.extract(route, file);
+          }
+        }
+      });
+    } catch (IOException e)
+    {
+      throw new ProjectProcessException("Could not process files in path: " + searchDirectory, e);
+    }
+    return collector.toResult();
+  }
+}
@@ -1,33 +1,39 @@
 package io.simplelocalize.cli.extraction.processor;
 
+import io.simplelocalize.cli.extraction.ExtractionOptions;
 import io.simplelocalize.cli.extraction.ExtractionResult;
-import io.simplelocalize.cli.extraction.files.JavaScriptAndTypeScriptFilesFinder;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
 import io.simplelocalize.cli.extraction.keys.ReactIntlKeyExtractor;
 
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 public class YahooReactIntlProcessor implements ExtractionProcessor
 {
 
+  private final ExtractionOptions extractionOptions;
+
+  public YahooReactIntlProcessor()
+  {
+    this(ExtractionOptions.defaults());
+  }
+
+  public YahooReactIntlProcessor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
 
   @Override
   public ExtractionResult process(Path searchDirectory)
   {
-    JavaScriptAndTypeScriptFilesFinder javaScriptAndTypeScriptFilesFinder = new JavaScriptAndTypeScriptFilesFinder();
-    ReactIntlKeyExtractor reactIntlKeyExtractor = new ReactIntlKeyExtractor();
-
-    List<Path> foundFiles = javaScriptAndTypeScriptFilesFinder.findFilesToProcess(searchDirectory);
-
-    Set<String> keys = new HashSet<>();
-    for (Path file : foundFiles)
-    {
-      Set<String> batchKeys = reactIntlKeyExtractor.extractKeysFromFile(file);
-      keys.addAll(batchKeys);
-    }
-    return ExtractionResult.of(keys, foundFiles);
+    return RoutedExtraction.process(searchDirectory, getExtractionRoutes(), extractionOptions);
+  }
+
+  @Override
+  public List<ExtractionRoute> getExtractionRoutes()
+  {
+    ReactIntlKeyExtractor keyExtractor = new ReactIntlKeyExtractor(extractionOptions);
+    return List.of(ExtractionRoute.forJavaScriptAndTypeScript(keyExtractor));
   }
 
   @Override
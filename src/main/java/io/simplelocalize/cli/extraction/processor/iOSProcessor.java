@@ -1,36 +1,38 @@
 package io.simplelocalize.cli.extraction.processor;
 
+import io.simplelocalize.cli.extraction.ExtractionOptions;
 import io.simplelocalize.cli.extraction.ExtractionResult;
-import io.simplelocalize.cli.extraction.files.GenericExtensionFilesFinder;
+import io.simplelocalize.cli.extraction.ExtractionRoute;
 import io.simplelocalize.cli.extraction.keys.SwiftStringKeyExtractor;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 public class iOSProcessor implements ExtractionProcessor
 {
 
+  private final ExtractionOptions extractionOptions;
 
-  @Override
-  public ExtractionResult process(Path searchDirectory)
+  public iOSProcessor()
   {
-    Set<String> foundKeys = new HashSet<>();
+    this(ExtractionOptions.defaults());
+  }
 
-    GenericExtensionFilesFinder filesFinder = new GenericExtensionFilesFinder();
-    List<Path> swiftFiles = filesFinder.findFilesToProcess(searchDirectory, ".swift");
-    List<Path> foundFiles = new ArrayList<>(swiftFiles);
+  public iOSProcessor(ExtractionOptions extractionOptions)
+  {
+    this.extractionOptions = extractionOptions;
+  }
 
-    SwiftStringKeyExtractor extractor = new SwiftStringKeyExtractor();
-    for (Path path : swiftFiles)
-    {
-      Set<String> chunk = extractor.extractKeysFromFile(path);
-      foundKeys.addAll(chunk);
-    }
+  @Override
+  public ExtractionResult process(Path searchDirectory)
+  {
+    return RoutedExtraction.process(searchDirectory, getExtractionRoutes(), extractionOptions);
+  }
 
-    return ExtractionResult.of(foundKeys, foundFiles);
+  @Override
+  public List<ExtractionRoute> getExtractionRoutes()
+  {
+    return List.of(ExtractionRoute.forExtension(".swift", new SwiftStringKeyExtractor(extractionOptions)));
   }
 
   @Override
@@ -0,0 +1,63 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * File recorded in the key usage index, with the size and modification time it had when its keys were extracted.
+ */
+final class IndexedFile
+{
+  private final String path;
+  private final long size;
+  private final long lastModified;
+
+  IndexedFile(String path, long size, long lastModified)
+  {
+    this.path = path;
+    this.size = size;
+    this.lastModified = lastModified;
+  }
+
+  static IndexedFile stat(Path file) throws IOException
+  {
+    return new IndexedFile(toIndexedPath(file), Files.size(file), Files.getLastModifiedTime(file).toMillis());
+  }
+
+  static String toIndexedPath(Path file)
+  {
+    return file.normalize().toString();
+  }
+
+  String getPath()
+  {
+    return path;
+  }
+
+  long getSize()
+  {
+    return size;
+  }
+
+  long getLastModified()
+  {
+    return lastModified;
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    IndexedFile that = (IndexedFile) o;
+    return size == that.size && lastModified == that.lastModified && path.equals(that.path);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(path, size, lastModified);
+  }
+}
@@ -0,0 +1,68 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import java.util.Objects;
+
+/**
+ * Place where a translation key is used. Line and column are 1-based, or 0 when the key text was not found in the file.
+ */
+public final class KeyOccurrence
+{
+  private final String key;
+  private final String file;
+  private final int line;
+  private final int column;
+
+  public KeyOccurrence(String key, String file, int line, int column)
+  {
+    this.key = key;
+    this.file = file;
+    this.line = line;
+    this.column = column;
+  }
+
+  public String getKey()
+  {
+    return key;
+  }
+
+  public String getFile()
+  {
+    return file;
+  }
+
+  public int getLine()
+  {
+    return line;
+  }
+
+  public int getColumn()
+  {
+    return column;
+  }
+
+  public String toLocation()
+  {
+    return line > 0 ? file + ":" + line + ":" + column : file;
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    KeyOccurrence that = (KeyOccurrence) o;
+    return line == that.line && column == that.column && key.equals(that.key) && file.equals(that.file);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(key, file, line, column);
+  }
+
+  @Override
+  public String toString()
+  {
+    return key + " @ " + toLocation();
+  }
+}
@@ -0,0 +1,93 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds line and column of extracted keys by locating the key text in the file content.
+ * Occurrences which are part of a longer identifier or key (e.g. "home" in "home.title") are ignored,
+ * unless the key is found nowhere else; keys which do not appear literally get a position-less occurrence.
+ */
+final class KeyOccurrenceLocator
+{
+  private KeyOccurrenceLocator()
+  {
+  }
+
+  static List<KeyOccurrence> locate(String text, Set<String> keys, String file)
+  {
+    int[] lineStarts = findLineStarts(text);
+    List<KeyOccurrence> output = new ArrayList<>();
+    for (String key : keys)
+    {
+      int outputSize = output.size();
+      int firstIndex = key.isEmpty() ? -1 : text.indexOf(key);
+      for (int index = firstIndex; index >= 0; index = text.indexOf(key, index + 1))
+      {
+        if (isDelimited(text, index, index + key.length()))
+        {
+          output.add(toOccurrence(key, file, lineStarts, index));
+        }
+      }
+      if (output.size() == outputSize)
+      {
+        output.add(firstIndex >= 0 ? toOccurrence(key, file, lineStarts, firstIndex) : new KeyOccurrence(key, file, 0, 0));
+      }
+    }
+    return output;
+  }
+
+  private static KeyOccurrence toOccurrence(String key, String file, int[] lineStarts, int index)
+  {
+    int line = Arrays.binarySearch(lineStarts, index);
+    if (line < 0)
+    {
+      line = -line - 2;
+    }
+    return new KeyOccurrence(key, file, line + 1, index - lineStarts[line] + 1);
+  }
+
+  private static int[] findLineStarts(String text)
+  {
+    int[] lineStarts = new int[16];
+    int count = 1;
+    for (int i = 0; i < text.length(); i++)
+    {
+      if (text.charAt(i) == '\n')
+      {
+        if (count == lineStarts.length)
+        {
+          lineStarts = Arrays.copyOf(lineStarts, count * 2);
+        }
+        lineStarts[count++] = i + 1;
+      }
+    }
+    return Arrays.copyOf(lineStarts, count);
+  }
+
+  private static boolean isDelimited(String text, int start, int end)
+  {
+    if (start > 0 && isKeyCharacter(text.charAt(start - 1)))
+    {
+      return false;
+    }
+    if (end >= text.length())
+    {
+      return true;
+    }
+    char next = text.charAt(end);
+    if (isKeyCharacter(next))
+    {
+      return false;
+    }
+    boolean isSeparator = next == '.' || next == '-' || next == '/' || next == ':';
+    return !isSeparator || end + 1 >= text.length() || !isKeyCharacter(text.charAt(end + 1));
+  }
+
+  private static boolean isKeyCharacter(char character)
+  {
+    return Character.isLetterOrDigit(character) || character == '_';
+  }
+}
@@ -0,0 +1,229 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of the key usage index file.
+ * <p>
+ * The file holds a table of indexed files, a fixed-width directory of keys sorted by UTF-8 bytes,
+ * the key bytes and, grouped by key, the occurrences. Lookups binary search the directory directly
+ * in the memory-mapped file, so answering a query does not load the whole index.
+ */
+public final class KeyUsageIndex
+{
+  static final int MAGIC = 0x534C4B49;
+  static final int VERSION = 1;
+  static final int KEY_ENTRY_LENGTH = 4 * Integer.BYTES;
+  static final int OCCURRENCE_LENGTH = 3 * Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final String projectType;
+  private final List<IndexedFile> files;
+  private final int keyCount;
+  private final int keyDirectoryOffset;
+  private final int keyBytesOffset;
+  private final int occurrencesOffset;
+
+  private KeyUsageIndex(ByteBuffer buffer) throws IOException
+  {
+    this.buffer = buffer;
+    if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+    {
+      throw new IOException("Unsupported key usage index format");
+    }
+    this.projectType = readString(buffer);
+    int fileCount = buffer.getInt();
+    this.keyCount = buffer.getInt();
+    int keyBytesLength = buffer.getInt();
+    List<IndexedFile> indexedFiles = new ArrayList<>(fileCount);
+    for (int i = 0; i < fileCount; i++)
+    {
+      indexedFiles.add(new IndexedFile(readString(buffer), buffer.getLong(), buffer.getLong()));
+    }
+    this.files = indexedFiles;
+    this.keyDirectoryOffset = buffer.position();
+    this.keyBytesOffset = keyDirectoryOffset + keyCount * KEY_ENTRY_LENGTH;
+    this.occurrencesOffset = keyBytesOffset + keyBytesLength;
+    if (keyCount < 0 || keyBytesLength < 0 || occurrencesOffset > buffer.limit())
+    {
+      throw new IOException("Corrupted key usage index");
+    }
+  }
+
+  /**
+   * Maps the index file into memory. The mapping stays valid when the file is replaced by a newer index.
+   */
+  public static KeyUsageIndex open(Path indexPath) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ))
+    {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new KeyUsageIndex(buffer);
+    }
+  }
+
+  public String getProjectType()
+  {
+    return projectType;
+  }
+
+  public int getKeyCount()
+  {
+    return keyCount;
+  }
+
+  public int getFileCount()
+  {
+    return files.size();
+  }
+
+  /**
+   * Returns occurrences of the key sorted by file, line and column.
+   */
+  public List<KeyOccurrence> findOccurrences(String key)
+  {
+    byte[] query = key.getBytes(StandardCharsets.UTF_8);
+    int entry = lowerBound(query);
+    if (entry == keyCount || compareKey(entry, query, false) != 0)
+    {
+      return List.of();
+    }
+    return readOccurrences(entry, key);
+  }
+
+  /**
+   * Returns indexed keys starting with the prefix, sorted by code point.
+   */
+  public List<String> findKeys(String prefix)
+  {
+    byte[] query = prefix.getBytes(StandardCharsets.UTF_8);
+    List<String> output = new ArrayList<>();
+    for (int entry = lowerBound(query); entry < keyCount && compareKey(entry, query, true) == 0; entry++)
+    {
+      output.add(readKey(entry));
+    }
+    return output;
+  }
+
+  List<IndexedFile> getFiles()
+  {
+    return files;
+  }
+
+  /**
+   * Key bytes of the directory entry, for merging indexes without decoding keys.
+   */
+  byte[] getKeyBytes(int entry)
+  {
+    byte[] key = new byte[getKeyLength(entry)];
+    ByteBuffer slice = buffer.duplicate();
+    slice.position(keyBytesOffset + buffer.getInt(keyDirectoryOffset + entry * KEY_ENTRY_LENGTH));
+    slice.get(key);
+    return key;
+  }
+
+  int getKeyLength(int entry)
+  {
+    return buffer.getInt(keyDirectoryOffset + entry * KEY_ENTRY_LENGTH + Integer.BYTES);
+  }
+
+  int getFirstOccurrence(int entry)
+  {
+    return buffer.getInt(keyDirectoryOffset + entry * KEY_ENTRY_LENGTH + 2 * Integer.BYTES);
+  }
+
+  int getOccurrenceCount(int entry)
+  {
+    return buffer.getInt(keyDirectoryOffset + entry * KEY_ENTRY_LENGTH + 3 * Integer.BYTES);
+  }
+
+  int getOccurrenceFileIndex(int occurrence)
+  {
+    return buffer.getInt(occurrencesOffset + occurrence * OCCURRENCE_LENGTH);
+  }
+
+  int getOccurrenceLine(int occurrence)
+  {
+    return buffer.getInt(occurrencesOffset + occurrence * OCCURRENCE_LENGTH + Integer.BYTES);
+  }
+
+  int getOccurrenceColumn(int occurrence)
+  {
+    return buffer.getInt(occurrencesOffset + occurrence * OCCURRENCE_LENGTH + 2 * Integer.BYTES);
+  }
+
+  private int lowerBound(byte[] query)
+  {
+    int low = 0;
+    int high = keyCount;
+    while (low < high)
+    {
+      int middle = (low + high) >>> 1;
+      if (compareKey(middle, query, false) < 0)
+      {
+        low = middle + 1;
+      } else
+      {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares the key of the directory entry with the query by unsigned bytes; as prefix, only the query length is compared.
+   */
+  int compareKey(int entry, byte[] query, boolean isPrefix)
+  {
+    int entryOffset = keyDirectoryOffset + entry * KEY_ENTRY_LENGTH;
+    int keyOffset = keyBytesOffset + buffer.getInt(entryOffset);
+    int keyLength = buffer.getInt(entryOffset + Integer.BYTES);
+    int length = Math.min(keyLength, query.length);
+    for (int i = 0; i < length; i++)
+    {
+      int comparison = Integer.compare(buffer.get(keyOffset + i) & 0xFF, query[i] & 0xFF);
+      if (comparison != 0)
+      {
+        return comparison;
+      }
+    }
+    if (isPrefix && keyLength >= query.length)
+    {
+      return 0;
+    }
+    return Integer.compare(keyLength, query.length);
+  }
+
+  private String readKey(int entry)
+  {
+    return new String(getKeyBytes(entry), StandardCharsets.UTF_8);
+  }
+
+  private List<KeyOccurrence> readOccurrences(int entry, String key)
+  {
+    int firstOccurrence = getFirstOccurrence(entry);
+    int occurrenceCount = getOccurrenceCount(entry);
+    List<KeyOccurrence> output = new ArrayList<>(occurrenceCount);
+    for (int occurrence = firstOccurrence; occurrence < firstOccurrence + occurrenceCount; occurrence++)
+    {
+      String file = files.get(getOccurrenceFileIndex(occurrence)).getPath();
+      output.add(new KeyOccurrence(key, file, getOccurrenceLine(occurrence), getOccurrenceColumn(occurrence)));
+    }
+    return output;
+  }
+
+  private static String readString(ByteBuffer buffer)
+  {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
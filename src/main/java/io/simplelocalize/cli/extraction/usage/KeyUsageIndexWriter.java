@@ -0,0 +1,310 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the key usage index file in the layout read by {@link KeyUsageIndex}.
+ * <p>
+ * Occurrences of files kept from the previous index are merged key by key straight from its memory-mapped file,
+ * only with their file numbers rewritten, so they are never decoded to keys and {@link KeyOccurrence}s.
+ * The file is written next to the target and moved over it, so readers never see a partial index.
+ */
+final class KeyUsageIndexWriter
+{
+  private static final int NONE = -1;
+
+  private KeyUsageIndexWriter()
+  {
+  }
+
+  /**
+   * @param previousIndex  index to copy occurrences of kept files from, or null
+   * @param keptFiles      unchanged files of the previous index
+   * @param extractedFiles files extracted since the previous index, with their occurrences
+   */
+  static void write(Path indexPath, String projectType, KeyUsageIndex previousIndex, Set<IndexedFile> keptFiles, Map<IndexedFile, List<KeyOccurrence>> extractedFiles) throws IOException
+  {
+    List<IndexedFile> files = new ArrayList<>(keptFiles);
+    files.addAll(extractedFiles.keySet());
+    files.sort(Comparator.comparing(IndexedFile::getPath));
+    Map<String, Integer> fileIndexes = new HashMap<>();
+    for (IndexedFile file : files)
+    {
+      fileIndexes.put(file.getPath(), fileIndexes.size());
+    }
+
+    // Both file tables are sorted by path, so kept occurrences stay sorted by file after renumbering
+    int[] previousFileIndexes = new int[previousIndex != null ? previousIndex.getFileCount() : 0];
+    for (int i = 0; i < previousFileIndexes.length; i++)
+    {
+      IndexedFile previousFile = previousIndex.getFiles().get(i);
+      previousFileIndexes[i] = keptFiles.contains(previousFile) ? fileIndexes.get(previousFile.getPath()) : NONE;
+    }
+    ExtractedKeys extractedKeys = ExtractedKeys.encode(extractedFiles.values(), fileIndexes);
+    MergePlan plan = MergePlan.create(previousIndex, previousFileIndexes, extractedKeys);
+
+    Path absoluteIndexPath = indexPath.toAbsolutePath();
+    Files.createDirectories(absoluteIndexPath.getParent());
+    Path temporaryPath = Files.createTempFile(absoluteIndexPath.getParent(), absoluteIndexPath.getFileName().toString(), ".tmp");
+    try
+    {
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath))))
+      {
+        output.writeInt(KeyUsageIndex.MAGIC);
+        output.writeInt(KeyUsageIndex.VERSION);
+        writeString(output, projectType);
+        output.writeInt(files.size());
+        output.writeInt(plan.keyCount);
+        output.writeInt(plan.keyBytesLength);
+        for (IndexedFile file : files)
+        {
+          writeString(output, file.getPath());
+          output.writeLong(file.getSize());
+          output.writeLong(file.getLastModified());
+        }
+
+        int keyOffset = 0;
+        int firstOccurrence = 0;
+        for (int key = 0; key < plan.keyCount; key++)
+        {
+          output.writeInt(keyOffset);
+          output.writeInt(plan.keyLengths[key]);
+          output.writeInt(firstOccurrence);
+          output.writeInt(plan.occurrenceCounts[key]);
+          keyOffset += plan.keyLengths[key];
+          firstOccurrence += plan.occurrenceCounts[key];
+        }
+        for (int key = 0; key < plan.keyCount; key++)
+        {
+          int extractedKey = plan.extractedKeys[key];
+          output.write(extractedKey != NONE ? extractedKeys.keys.get(extractedKey) : previousIndex.getKeyBytes(plan.previousEntries[key]));
+        }
+        for (int key = 0; key < plan.keyCount; key++)
+        {
+          writeOccurrences(output, previousIndex, previousFileIndexes, plan.previousEntries[key], extractedKeys, plan.extractedKeys[key]);
+        }
+      }
+      move(temporaryPath, indexPath);
+    } finally
+    {
+      Files.deleteIfExists(temporaryPath);
+    }
+  }
+
+  /**
+   * Merges kept and extracted occurrences of one key by file; they never share a file.
+   */
+  private static void writeOccurrences(DataOutputStream output, KeyUsageIndex previousIndex, int[] previousFileIndexes, int previousEntry, ExtractedKeys extractedKeys, int extractedKey) throws IOException
+  {
+    int previousOccurrence = 0;
+    int previousEnd = 0;
+    if (previousEntry != NONE)
+    {
+      previousOccurrence = previousIndex.getFirstOccurrence(previousEntry);
+      previousEnd = previousOccurrence + previousIndex.getOccurrenceCount(previousEntry);
+    }
+    int extractedOccurrence = 0;
+    int extractedEnd = 0;
+    if (extractedKey != NONE)
+    {
+      extractedOccurrence = extractedKeys.firstOccurrences[extractedKey];
+      extractedEnd = extractedKeys.firstOccurrences[extractedKey + 1];
+    }
+    while (previousOccurrence < previousEnd || extractedOccurrence < extractedEnd)
+    {
+      int fileIndex = previousOccurrence < previousEnd ? previousFileIndexes[previousIndex.getOccurrenceFileIndex(previousOccurrence)] : NONE;
+      if (previousOccurrence < previousEnd && fileIndex == NONE)
+      {
+        previousOccurrence++;
+        continue;
+      }
+      EncodedOccurrence extracted = extractedOccurrence < extractedEnd ? extractedKeys.occurrences.get(extractedOccurrence) : null;
+      if (fileIndex != NONE && (extracted == null || fileIndex < extracted.fileIndex))
+      {
+        output.writeInt(fileIndex);
+        output.writeInt(previousIndex.getOccurrenceLine(previousOccurrence));
+        output.writeInt(previousIndex.getOccurrenceColumn(previousOccurrence));
+        previousOccurrence++;
+      } else
+      {
+        output.writeInt(extracted.fileIndex);
+        output.writeInt(extracted.occurrence.getLine());
+        output.writeInt(extracted.occurrence.getColumn());
+        extractedOccurrence++;
+      }
+    }
+  }
+
+  private static int countKeptOccurrences(KeyUsageIndex previousIndex, int[] previousFileIndexes, int previousEntry)
+  {
+    int firstOccurrence = previousIndex.getFirstOccurrence(previousEntry);
+    int end = firstOccurrence + previousIndex.getOccurrenceCount(previousEntry);
+    int count = 0;
+    for (int occurrence = firstOccurrence; occurrence < end; occurrence++)
+    {
+      if (previousFileIndexes[previousIndex.getOccurrenceFileIndex(occurrence)] != NONE)
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void move(Path source, Path target) throws IOException
+  {
+    try
+    {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e)
+    {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException
+  {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  /**
+   * Keys of the resulting index in order, each taken from the previous index, the extracted files, or both.
+   */
+  private static final class MergePlan
+  {
+    private final int[] previousEntries;
+    private final int[] extractedKeys;
+    private final int[] keyLengths;
+    private final int[] occurrenceCounts;
+    private int keyCount;
+    private int keyBytesLength;
+
+    private MergePlan(int maxKeyCount)
+    {
+      this.previousEntries = new int[maxKeyCount];
+      this.extractedKeys = new int[maxKeyCount];
+      this.keyLengths = new int[maxKeyCount];
+      this.occurrenceCounts = new int[maxKeyCount];
+    }
+
+    private static MergePlan create(KeyUsageIndex previousIndex, int[] previousFileIndexes, ExtractedKeys extractedKeys)
+    {
+      int previousKeyCount = previousIndex != null ? previousIndex.getKeyCount() : 0;
+      int extractedKeyCount = extractedKeys.keys.size();
+      MergePlan plan = new MergePlan(previousKeyCount + extractedKeyCount);
+      int previousEntry = 0;
+      int extractedKey = 0;
+      while (previousEntry < previousKeyCount || extractedKey < extractedKeyCount)
+      {
+        int comparison;
+        if (previousEntry == previousKeyCount)
+        {
+          comparison = 1;
+        } else if (extractedKey == extractedKeyCount)
+        {
+          comparison = -1;
+        } else
+        {
+          comparison = previousIndex.compareKey(previousEntry, extractedKeys.keys.get(extractedKey), false);
+        }
+        int keyPreviousEntry = comparison <= 0 ? previousEntry++ : NONE;
+        int keyExtractedKey = comparison >= 0 ? extractedKey++ : NONE;
+
+        int occurrenceCount = 0;
+        if (keyPreviousEntry != NONE)
+        {
+          occurrenceCount += countKeptOccurrences(previousIndex, previousFileIndexes, keyPreviousEntry);
+        }
+        if (keyExtractedKey != NONE)
+        {
+          occurrenceCount += extractedKeys.firstOccurrences[keyExtractedKey + 1] - extractedKeys.firstOccurrences[keyExtractedKey];
+        }
+        if (occurrenceCount > 0)
+        {
+          int keyLength = keyExtractedKey != NONE ? extractedKeys.keys.get(keyExtractedKey).length : previousIndex.getKeyLength(keyPreviousEntry);
+          plan.previousEntries[plan.keyCount] = keyPreviousEntry;
+          plan.extractedKeys[plan.keyCount] = keyExtractedKey;
+          plan.keyLengths[plan.keyCount] = keyLength;
+          plan.occurrenceCounts[plan.keyCount] = occurrenceCount;
+          plan.keyBytesLength += keyLength;
+          plan.keyCount++;
+        }
+      }
+      return plan;
+    }
+  }
+
+  /**
+   * Occurrences of extracted files sorted by key bytes, file, line and column, with the distinct keys.
+   */
+  private static final class ExtractedKeys
+  {
+    private final List<EncodedOccurrence> occurrences;
+    private final List<byte[]> keys = new ArrayList<>();
+    private final int[] firstOccurrences;
+
+    private ExtractedKeys(List<EncodedOccurrence> occurrences)
+    {
+      this.occurrences = occurrences;
+      List<Integer> starts = new ArrayList<>();
+      for (int i = 0; i < occurrences.size(); i++)
+      {
+        byte[] key = occurrences.get(i).key;
+        if (keys.isEmpty() || !Arrays.equals(keys.get(keys.size() - 1), key))
+        {
+          keys.add(key);
+          starts.add(i);
+        }
+      }
+      starts.add(occurrences.size());
+      this.firstOccurrences = starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static ExtractedKeys encode(Collection<List<KeyOccurrence>> fileOccurrences, Map<String, Integer> fileIndexes)
+    {
+      List<EncodedOccurrence> encodedOccurrences = new ArrayList<>();
+      for (List<KeyOccurrence> occurrences : fileOccurrences)
+      {
+        for (KeyOccurrence occurrence : occurrences)
+        {
+          encodedOccurrences.add(new EncodedOccurrence(occurrence.getKey().getBytes(StandardCharsets.UTF_8), fileIndexes.get(occurrence.getFile()), occurrence));
+        }
+      }
+      encodedOccurrences.sort(Comparator.<EncodedOccurrence, byte[]>comparing(encoded -> encoded.key, Arrays::compareUnsigned)
+              .thenComparingInt(encoded -> encoded.fileIndex)
+              .thenComparingInt(encoded -> encoded.occurrence.getLine())
+              .thenComparingInt(encoded -> encoded.occurrence.getColumn()));
+      return new ExtractedKeys(encodedOccurrences);
+    }
+  }
+
+  private static final class EncodedOccurrence
+  {
+    private final byte[] key;
+    private final int fileIndex;
+    private final KeyOccurrence occurrence;
+
+    private EncodedOccurrence(byte[] key, int fileIndex, KeyOccurrence occurrence)
+    {
+      this.key = key;
+      this.fileIndex = fileIndex;
+      this.occurrence = occurrence;
+    }
+  }
+}
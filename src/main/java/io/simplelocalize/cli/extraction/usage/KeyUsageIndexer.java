@@ -0,0 +1,211 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionRule;
+import io.simplelocalize.cli.extraction.FileKeysCache;
+import io.simplelocalize.cli.extraction.ProjectProcessorFactory;
+import io.simplelocalize.cli.io.FileContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
+
+/**
+ * Keeps the key usage index of a project up to date.
+ * Only files which were added or changed since the last refresh are extracted again; occurrences of unchanged files
+ * are copied from the previous index, and files which are gone are dropped.
+ * Queries open the index without a refresh, so they do not depend on the size of the project.
+ */
+public final class KeyUsageIndexer
+{
+  public static final Path DEFAULT_INDEX_PATH = Path.of(".simplelocalize", "key-usage.idx");
+
+  private static final Logger log = LoggerFactory.getLogger(KeyUsageIndexer.class);
+
+  private final Path indexPath;
+  private final String projectType;
+  private final ExtractionOptions extractionOptions;
+
+  public KeyUsageIndexer(Path indexPath, String projectType, ExtractionOptions extractionOptions)
+  {
+    this.indexPath = indexPath;
+    this.projectType = projectType;
+    this.extractionOptions = extractionOptions;
+  }
+
+  /**
+   * Opens the index as it was last refreshed, without looking at the search directory,
+   * or builds it when it is missing or was built for other extraction settings.
+   */
+  public KeyUsageIndex open(Path searchDirectory) throws IOException
+  {
+    Optional<KeyUsageIndex> index = openPreviousIndex();
+    if (index.isPresent())
+    {
+      return index.get();
+    }
+    return refresh(searchDirectory);
+  }
+
+  /**
+   * Brings the index up to date with files in the search directory and opens it.
+   */
+  public KeyUsageIndex refresh(Path searchDirectory) throws IOException
+  {
+    KeyUsageIndex previousIndex = openPreviousIndex().orElse(null);
+    IndexingFileKeysCache fileKeysCache = new IndexingFileKeysCache(previousIndex);
+    ExtractionOptions indexingOptions = anExtractionOptions()
+            .withStreamingThreshold(extractionOptions.getStreamingThreshold())
+            .withParallelScanThreshold(extractionOptions.getParallelScanThreshold())
+            .withFileKeysCache(fileKeysCache)
+            .withKeysRetained(false)
+            .withExtractionRules(extractionOptions.getExtractionRules())
+            .withGeneratedFilesExcluded(extractionOptions.isGeneratedFilesExcluded())
+            .build();
+    new ProjectProcessorFactory()
+            .createForType(projectType, indexingOptions)
+            .process(searchDirectory);
+
+    if (previousIndex != null && !fileKeysCache.isChanged())
+    {
+      return previousIndex;
+    }
+    Map<IndexedFile, List<KeyOccurrence>> extractedFiles = fileKeysCache.locateExtractedKeys();
+    KeyUsageIndexWriter.write(indexPath, getIndexedType(), previousIndex, fileKeysCache.keptFiles, extractedFiles);
+    log.info(" 🗂  Indexed {} changed files, {} files in total", extractedFiles.size(), fileKeysCache.keptFiles.size() + extractedFiles.size());
+    return KeyUsageIndex.open(indexPath);
+  }
+
+  /**
+   * Keys of files depend on the project type, custom extraction rules and on whether generated files are extracted,
+   * so the index is rebuilt when any of them changes; unchanged files are not classified again.
+   */
+  private String getIndexedType()
+  {
+    List<ExtractionRule> extractionRules = extractionOptions.getExtractionRules();
+    String indexedType = Objects.toString(projectType, "");
+    if (!extractionRules.isEmpty())
+    {
+      indexedType += "+rules:" + Integer.toHexString(extractionRules.hashCode());
+    }
+    if (!extractionOptions.isGeneratedFilesExcluded())
+    {
+      indexedType += "+generated";
+    }
+    return indexedType;
+  }
+
+  private Optional<KeyUsageIndex> openPreviousIndex()
+  {
+    if (!Files.isRegularFile(indexPath))
+    {
+      return Optional.empty();
+    }
+    try
+    {
+      KeyUsageIndex index = KeyUsageIndex.open(indexPath);
+      if (!getIndexedType().equals(index.getProjectType()))
+      {
+        return Optional.empty();
+      }
+      return Optional.of(index);
+    } catch (IOException | RuntimeException e)
+    {
+      log.warn(" 🤔 Rebuilding unreadable key usage index: {}", indexPath);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Records which files are unchanged since the previous index and collects keys of the extracted ones.
+   * Occurrences of unchanged files stay in the previous index until it is merged into the new one,
+   * so their keys are not loaded; indexing does not retain keys, so none are returned for them.
+   * A file passed to several extractors is located once, with keys of all of them, after extraction finished.
+   */
+  private final class IndexingFileKeysCache implements FileKeysCache
+  {
+    private final Map<String, IndexedFile> previousFiles = new HashMap<>();
+    private final Set<IndexedFile> keptFiles = ConcurrentHashMap.newKeySet();
+    private final Map<Path, IndexedFile> changedFiles = new ConcurrentHashMap<>();
+    private final Map<Path, Set<String>> extractedKeys = new ConcurrentHashMap<>();
+
+    private IndexingFileKeysCache(KeyUsageIndex previousIndex)
+    {
+      if (previousIndex != null)
+      {
+        previousIndex.getFiles().forEach(file -> previousFiles.put(file.getPath(), file));
+      }
+    }
+
+    @Override
+    public Set<String> findKeys(Path file)
+    {
+      IndexedFile indexedFile = changedFiles.get(file);
+      if (indexedFile != null)
+      {
+        return null;
+      }
+      try
+      {
+        indexedFile = IndexedFile.stat(file);
+      } catch (IOException e)
+      {
+        return null;
+      }
+      if (!indexedFile.equals(previousFiles.get(indexedFile.getPath())))
+      {
+        changedFiles.putIfAbsent(file, indexedFile);
+        return null;
+      }
+      keptFiles.add(indexedFile);
+      return Set.of();
+    }
+
+    @Override
+    public void putKeys(Path file, Set<String> keys)
+    {
+      if (changedFiles.containsKey(file))
+      {
+        extractedKeys.computeIfAbsent(file, key -> ConcurrentHashMap.newKeySet()).addAll(keys);
+      }
+    }
+
+    private Map<IndexedFile, List<KeyOccurrence>> locateExtractedKeys()
+    {
+      Map<IndexedFile, List<KeyOccurrence>> output = new ConcurrentHashMap<>();
+      extractedKeys.entrySet().parallelStream().forEach(entry -> {
+        IndexedFile indexedFile = changedFiles.get(entry.getKey());
+        output.put(indexedFile, locate(entry.getKey(), indexedFile, entry.getValue()));
+      });
+      return output;
+    }
+
+    private List<KeyOccurrence> locate(Path file, IndexedFile indexedFile, Set<String> keys)
+    {
+      if (indexedFile.getSize() > extractionOptions.getStreamingThreshold())
+      {
+        List<KeyOccurrence> occurrences = new ArrayList<>();
+        keys.forEach(key -> occurrences.add(new KeyOccurrence(key, indexedFile.getPath(), 0, 0)));
+        return occurrences;
+      }
+      return KeyOccurrenceLocator.locate(FileContent.read(file).getText(), keys, indexedFile.getPath());
+    }
+
+    private boolean isChanged()
+    {
+      return !extractedKeys.isEmpty() || keptFiles.size() != previousFiles.size();
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import io.simplelocalize.cli.extraction.FileKeysListener;
+import io.simplelocalize.cli.io.FileContent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes keys of each processed file as newline delimited JSON as soon as the file is extracted,
+ * one {"key", "file"} record per key, optionally with "line" and "column" of every occurrence.
+ * Records of a file are flushed together, so consumers can read the output while extraction runs.
+ */
+public final class NdjsonKeysWriter implements FileKeysListener, Closeable
+{
+  private final JsonGenerator generator;
+  private final boolean withLocations;
+  private final long maxLocatedFileSize;
+  private long writtenRecords;
+  private long writtenFiles;
+
+  /**
+   * @param maxLocatedFileSize larger files get records without line and column, so they are not read into memory again
+   */
+  public NdjsonKeysWriter(OutputStream outputStream, boolean withLocations, long maxLocatedFileSize) throws IOException
+  {
+    this.generator = new JsonFactory().createGenerator(outputStream);
+    this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.withLocations = withLocations;
+    this.maxLocatedFileSize = maxLocatedFileSize;
+  }
+
+  @Override
+  public void onFileKeys(Path file, Set<String> keys)
+  {
+    if (keys.isEmpty())
+    {
+      return;
+    }
+    String filePath = file.toString();
+    List<KeyOccurrence> occurrences = withLocations ? locate(file, keys) : withoutLocations(keys, filePath);
+    occurrences.sort(Comparator.comparing(KeyOccurrence::getKey)
+            .thenComparingInt(KeyOccurrence::getLine)
+            .thenComparingInt(KeyOccurrence::getColumn));
+    synchronized (this)
+    {
+      try
+      {
+        for (KeyOccurrence occurrence : occurrences)
+        {
+          generator.writeStartObject();
+          generator.writeStringField("key", occurrence.getKey());
+          generator.writeStringField("file", filePath);
+          if (occurrence.getLine() > 0)
+          {
+            generator.writeNumberField("line", occurrence.getLine());
+            generator.writeNumberField("column", occurrence.getColumn());
+          }
+          generator.writeEndObject();
+          generator.writeRaw('\n');
+        }
+        generator.flush();
+        writtenRecords += occurrences.size();
+        writtenFiles++;
+      } catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  public synchronized long getWrittenRecords()
+  {
+    return writtenRecords;
+  }
+
+  public synchronized long getWrittenFiles()
+  {
+    return writtenFiles;
+  }
+
+  /**
+   * Flushes the output; the output stream itself is left open.
+   */
+  @Override
+  public synchronized void close() throws IOException
+  {
+    generator.close();
+  }
+
+  private List<KeyOccurrence> locate(Path file, Set<String> keys)
+  {
+    String filePath = file.toString();
+    try
+    {
+      if (Files.size(file) > maxLocatedFileSize)
+      {
+        return withoutLocations(keys, filePath);
+      }
+    } catch (IOException e)
+    {
+      return withoutLocations(keys, filePath);
+    }
+    return KeyOccurrenceLocator.locate(FileContent.read(file).getText(), keys, filePath);
+  }
+
+  private static List<KeyOccurrence> withoutLocations(Set<String> keys, String filePath)
+  {
+    List<KeyOccurrence> output = new ArrayList<>(keys.size());
+    keys.forEach(key -> output.add(new KeyOccurrence(key, filePath, 0, 0)));
+    return output;
+  }
+}
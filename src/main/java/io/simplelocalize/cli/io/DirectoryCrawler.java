@@ -0,0 +1,148 @@
+package io.simplelocalize.cli.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Walks a directory tree listing subdirectories concurrently on a fork/join pool.
+ * Like {@link Files#walk(Path, int, java.nio.file.FileVisitOption...)} it does not descend into symbolic links to directories,
+ * but symbolic links to regular files are reported.
+ */
+public class DirectoryCrawler
+{
+  public static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private final int parallelism;
+
+  public DirectoryCrawler()
+  {
+    this(DEFAULT_PARALLELISM);
+  }
+
+  public DirectoryCrawler(int parallelism)
+  {
+    if (parallelism < 1)
+    {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns regular files accepted by the filter, sorted by path.
+   */
+  public List<Path> findFiles(Path root, Predicate<Path> fileFilter) throws IOException
+  {
+    return findFiles(root, Integer.MAX_VALUE, directory -> true, fileFilter);
+  }
+
+  /**
+   * Returns regular files accepted by the filter, sorted by path, so the result does not depend on crawling order.
+   * Directories rejected by the directory filter are not listed at all.
+   */
+  public List<Path> findFiles(Path root, int maxDepth, Predicate<Path> directoryFilter, Predicate<Path> fileFilter) throws IOException
+  {
+    Queue<Path> foundFiles = new ConcurrentLinkedQueue<>();
+    crawl(root, maxDepth, directoryFilter, file -> {
+      if (fileFilter.test(file))
+      {
+        foundFiles.add(file);
+      }
+    });
+    List<Path> output = new ArrayList<>(foundFiles);
+    output.sort(null);
+    return output;
+  }
+
+  /**
+   * Passes regular files to the consumer as soon as they are found.
+   * The consumer is called concurrently from crawler threads and in no particular order.
+   */
+  public void crawl(Path root, int maxDepth, Predicate<Path> directoryFilter, Consumer<Path> fileConsumer) throws IOException
+  {
+    BasicFileAttributes rootAttributes = Files.readAttributes(root, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+    if (!rootAttributes.isDirectory())
+    {
+      if (Files.isRegularFile(root))
+      {
+        fileConsumer.accept(root);
+      }
+      return;
+    }
+    if (maxDepth < 1 || !directoryFilter.test(root))
+    {
+      return;
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try
+    {
+      pool.invoke(new DirectoryTask(root, 0, maxDepth, directoryFilter, fileConsumer));
+    } catch (UncheckedIOException e)
+    {
+      throw e.getCause();
+    } finally
+    {
+      pool.shutdown();
+    }
+  }
+
+  private static final class DirectoryTask extends RecursiveAction
+  {
+    private final Path directory;
+    private final int depth;
+    private final int maxDepth;
+    private final Predicate<Path> directoryFilter;
+    private final Consumer<Path> fileConsumer;
+
+    private DirectoryTask(Path directory, int depth, int maxDepth, Predicate<Path> directoryFilter, Consumer<Path> fileConsumer)
+    {
+      this.directory = directory;
+      this.depth = depth;
+      this.maxDepth = maxDepth;
+      this.directoryFilter = directoryFilter;
+      this.fileConsumer = fileConsumer;
+    }
+
+    @Override
+    protected void compute()
+    {
+      int entryDepth = depth + 1;
+      List<DirectoryTask> subdirectoryTasks = new ArrayList<>();
+      try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory))
+      {
+        for (Path entry : entries)
+        {
+          BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+          if (attributes.isDirectory())
+          {
+            if (entryDepth < maxDepth && directoryFilter.test(entry))
+            {
+              subdirectoryTasks.add(new DirectoryTask(entry, entryDepth, maxDepth, directoryFilter, fileConsumer));
+            }
+          } else if (attributes.isRegularFile() || (attributes.isSymbolicLink() && Files.isRegularFile(entry)))
+          {
+            fileConsumer.accept(entry);
+          }
+        }
+      } catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+      invokeAll(subdirectoryTasks);
+    }
+  }
+}
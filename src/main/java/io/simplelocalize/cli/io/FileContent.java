@@ -0,0 +1,141 @@
+package io.simplelocalize.cli.io;
+
+import java.nio.file.Path;
+
+/**
+ * Content of a single file shared by every matcher which runs on it.
+ * The decoded text and its whitespace-normalized forms are computed lazily, at most once.
+ * Instances are meant to be used by one thread at a time.
+ */
+public final class FileContent
+{
+  private static final int MAX_RETAINED_BUFFER_LENGTH = 1 << 20;
+  private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[8192]);
+
+  private final Path filePath;
+  private final byte[] bytes;
+  private String text;
+  private String oneLineText;
+  private String textWithoutWhitespaces;
+
+  private FileContent(Path filePath, byte[] bytes)
+  {
+    this.filePath = filePath;
+    this.bytes = bytes;
+  }
+
+  public static FileContent of(Path filePath, byte[] bytes)
+  {
+    return new FileContent(filePath, bytes);
+  }
+
+  public static FileContent read(Path filePath)
+  {
+    return new FileContent(filePath, FileContentReader.tryReadBytes(filePath));
+  }
+
+  public Path getFilePath()
+  {
+    return filePath;
+  }
+
+  public byte[] getBytes()
+  {
+    return bytes;
+  }
+
+  public String getText()
+  {
+    if (text == null)
+    {
+      text = FileContentReader.tryDecodeContent(bytes, filePath);
+    }
+    return text;
+  }
+
+  /**
+   * Text with every run of whitespaces replaced by a single space.
+   */
+  public String getOneLineText()
+  {
+    if (oneLineText == null)
+    {
+      oneLineText = collapseWhitespaces(getText());
+    }
+    return oneLineText;
+  }
+
+  /**
+   * Text with all whitespaces removed.
+   */
+  public String getTextWithoutWhitespaces()
+  {
+    if (textWithoutWhitespaces == null)
+    {
+      textWithoutWhitespaces = removeWhitespaces(getText());
+    }
+    return textWithoutWhitespaces;
+  }
+
+  static String collapseWhitespaces(String text)
+  {
+    char[] buffer = buffer(text.length());
+    int length = 0;
+    boolean previousWhitespace = false;
+    for (int i = 0; i < text.length(); i++)
+    {
+      char current = text.charAt(i);
+      if (isWhitespace(current))
+      {
+        if (!previousWhitespace)
+        {
+          buffer[length++] = ' ';
+        }
+        previousWhitespace = true;
+      } else
+      {
+        buffer[length++] = current;
+        previousWhitespace = false;
+      }
+    }
+    return new String(buffer, 0, length);
+  }
+
+  static String removeWhitespaces(String text)
+  {
+    char[] buffer = buffer(text.length());
+    int length = 0;
+    for (int i = 0; i < text.length(); i++)
+    {
+      char current = text.charAt(i);
+      if (!isWhitespace(current))
+      {
+        buffer[length++] = current;
+      }
+    }
+    return new String(buffer, 0, length);
+  }
+
+  private static char[] buffer(int length)
+  {
+    char[] buffer = BUFFER.get();
+    if (buffer.length >= length)
+    {
+      return buffer;
+    }
+    char[] grown = new char[length];
+    if (length <= MAX_RETAINED_BUFFER_LENGTH)
+    {
+      BUFFER.set(grown);
+    }
+    return grown;
+  }
+
+  /**
+   * Same characters as the regex \s class.
+   */
+  static boolean isWhitespace(char value)
+  {
+    return value == ' ' || value == '\t' || value == '\n' || value == '\u000B' || value == '\f' || value == '\r';
+  }
+}
@@ -5,40 +5,81 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 public class FileContentReader
 {
 
   private static final Logger log = LoggerFactory.getLogger(FileContentReader.class);
 
+  private static final byte[] EMPTY_CONTENT = new byte[0];
 
   private FileContentReader()
   {
   }
 
   public static String tryReadContent(Path filePath)
+  {
+    return tryDecodeContent(tryReadBytes(filePath), filePath);
+  }
+
+  public static byte[] tryReadBytes(Path filePath)
   {
     Path decodedFilePath = null;
     try
     {
       decodedFilePath = Paths.get(URLDecoder.decode(String.valueOf(Paths.get(String.valueOf(filePath))), StandardCharsets.UTF_8));
-      return Files.readString(decodedFilePath, StandardCharsets.UTF_8);
+      return Files.readAllBytes(decodedFilePath);
     } catch (IOException e)
     {
       log.warn("Cannot read file from path " + decodedFilePath, e);
     }
+    return EMPTY_CONTENT;
+  }
+
+  /**
+   * Maps the file into memory instead of reading it onto the heap, so very large files can be scanned byte by byte.
+   * Files above 2 GB cannot be mapped at once, so only their first 2 GB are returned.
+   */
+  public static ByteBuffer tryMapBytes(Path filePath)
+  {
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ))
+    {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE)
+      {
+        log.warn("Reading only first 2 GB of file from path {}", filePath);
+      }
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, Integer.MAX_VALUE));
+    } catch (IOException e)
+    {
+      log.warn("Cannot read file from path " + filePath, e);
+    }
+    return ByteBuffer.wrap(EMPTY_CONTENT);
+  }
+
+  public static String tryDecodeContent(byte[] content, Path filePath)
+  {
+    try
+    {
+      return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
+    } catch (CharacterCodingException e)
+    {
+      log.warn("Cannot read file from path " + filePath, e);
+    }
     return "";
   }
 
   public static String transformTextToOneLine(String fileContent)
   {
-    fileContent = fileContent.replace("\n", " ");
-    fileContent = fileContent.replaceAll("\\s+", " ");
-    return fileContent;
+    return FileContent.collapseWhitespaces(fileContent);
   }
 
 }
@@ -10,8 +10,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static io.simplelocalize.cli.TemplateKeys.LANGUAGE_TEMPLATE_KEY;
 import static io.simplelocalize.cli.TemplateKeys.NAMESPACE_TEMPLATE_KEY;
@@ -19,6 +17,8 @@ import static io.simplelocalize.cli.TemplateKeys.NAMESPACE_TEMPLATE_KEY;
 public class FileListReader
 {
 
+  private static final int MAX_SEARCH_DEPTH = 6;
+
   public List<FileToUpload> findFilesToUpload(String uploadPath) throws IOException
   {
     List<FileToUpload> output = new ArrayList<>();
@@ -33,34 +33,30 @@ public class FileListReader
       parentDir = Path.of(parentDirectory);
     }
 
-    try (Stream<Path> foundFilesStream = Files.walk(parentDir, 6))
+    AntPathMatcher antPathMatcher = new AntPathMatcher();
+    String uploadPathPattern = uploadPath
+            .replace(LANGUAGE_TEMPLATE_KEY, "**")
+            .replace(NAMESPACE_TEMPLATE_KEY, "**");
+    DirectoryCrawler directoryCrawler = new DirectoryCrawler();
+    List<Path> foundFiles = directoryCrawler.findFiles(parentDir, MAX_SEARCH_DEPTH, directory -> true,
+            path -> antPathMatcher.matches(uploadPathPattern, path.toString()));
+    for (Path foundFile : foundFiles)
     {
-      AntPathMatcher antPathMatcher = new AntPathMatcher();
-      String uploadPathPattern = uploadPath
-              .replace(LANGUAGE_TEMPLATE_KEY, "**")
-              .replace(NAMESPACE_TEMPLATE_KEY, "**");
-      var foundFiles = foundFilesStream
-              .filter(Files::isRegularFile)
-              .filter(path -> antPathMatcher.matches(uploadPathPattern, path.toString()))
-              .collect(Collectors.toList());
-      for (Path foundFile : foundFiles)
+      String languageKey = extractTemplateValue(uploadPath, foundFile, LANGUAGE_TEMPLATE_KEY);
+      String pathWithLanguage = uploadPath.replace(LANGUAGE_TEMPLATE_KEY, languageKey);
+      String namespace = extractTemplateValue(pathWithLanguage, foundFile, NAMESPACE_TEMPLATE_KEY);
+      if (StringUtils.isNotBlank(namespace))
       {
-        String languageKey = extractTemplateValue(uploadPath, foundFile, LANGUAGE_TEMPLATE_KEY);
-        String pathWithLanguage = uploadPath.replace(LANGUAGE_TEMPLATE_KEY, languageKey);
-        String namespace = extractTemplateValue(pathWithLanguage, foundFile, NAMESPACE_TEMPLATE_KEY);
-        if (StringUtils.isNotBlank(namespace))
-        {
-          String pathWithNamespace = uploadPath.replace(NAMESPACE_TEMPLATE_KEY, namespace);
-          languageKey = extractTemplateValue(pathWithNamespace, foundFile, LANGUAGE_TEMPLATE_KEY);
-        }
-        FileToUpload fileToUpload = FileToUpload.FileToUploadBuilder.aFileToUpload()
-                .withLanguage(StringUtils.trimToNull(languageKey))
-                .withNamespace(StringUtils.trimToNull(namespace))
-                .withPath(foundFile).build();
-        output.add(fileToUpload);
+        String pathWithNamespace = uploadPath.replace(NAMESPACE_TEMPLATE_KEY, namespace);
+        languageKey = extractTemplateValue(pathWithNamespace, foundFile, LANGUAGE_TEMPLATE_KEY);
       }
-      return output;
+      FileToUpload fileToUpload = FileToUpload.FileToUploadBuilder.aFileToUpload()
+              .withLanguage(StringUtils.trimToNull(languageKey))
+              .withNamespace(StringUtils.trimToNull(namespace))
+              .withPath(foundFile).build();
+      output.add(fileToUpload);
     }
+    return output;
   }
 
   private String getParentDirectory(String uploadPath)
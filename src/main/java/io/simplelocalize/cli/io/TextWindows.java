@@ -0,0 +1,86 @@
+package io.simplelocalize.cli.io;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams a file as overlapping windows of whitespace-normalized text, so memory stays bounded by the window length.
+ * <p>
+ * Window k starts where the owned part of window k-1 ends and repeats its last {@code overlap} characters.
+ * Every position is owned by exactly one window, and a match starting in the owned part of a window
+ * is fully visible in it as long as the match is not longer than the overlap.
+ */
+public final class TextWindows
+{
+  public static final int DEFAULT_WINDOW_LENGTH = 1 << 20;
+  public static final int DEFAULT_OVERLAP = 1 << 16;
+
+  private static final int READ_BUFFER_LENGTH = 8192;
+
+  public enum Whitespaces
+  {
+    KEEP, COLLAPSE, REMOVE
+  }
+
+  public interface WindowConsumer
+  {
+    /**
+     * @param window      window text, valid only until this method returns
+     * @param ownedLength matches starting before this index belong to this window
+     */
+    void accept(CharSequence window, int ownedLength);
+  }
+
+  private TextWindows()
+  {
+  }
+
+  public static void forEachWindow(Path filePath, Whitespaces whitespaces, WindowConsumer consumer) throws IOException
+  {
+    forEachWindow(filePath, whitespaces, DEFAULT_WINDOW_LENGTH, DEFAULT_OVERLAP, consumer);
+  }
+
+  public static void forEachWindow(Path filePath, Whitespaces whitespaces, int windowLength, int overlap, WindowConsumer consumer) throws IOException
+  {
+    if (overlap < 0 || overlap >= windowLength)
+    {
+      throw new IllegalArgumentException("Overlap must be shorter than window: " + overlap + " >= " + windowLength);
+    }
+
+    char[] window = new char[windowLength];
+    char[] readBuffer = new char[READ_BUFFER_LENGTH];
+    int ownedLength = windowLength - overlap;
+    int length = 0;
+    boolean previousWhitespace = false;
+    try (Reader reader = new InputStreamReader(Files.newInputStream(filePath), StandardCharsets.UTF_8.newDecoder()))
+    {
+      int read;
+      while ((read = reader.read(readBuffer)) != -1)
+      {
+        for (int i = 0; i < read; i++)
+        {
+          char current = readBuffer[i];
+          boolean whitespace = FileContent.isWhitespace(current);
+          if (whitespace && whitespaces == Whitespaces.REMOVE || whitespace && previousWhitespace && whitespaces == Whitespaces.COLLAPSE)
+          {
+            continue;
+          }
+          previousWhitespace = whitespace;
+          if (length == windowLength)
+          {
+            consumer.accept(CharBuffer.wrap(window, 0, length), ownedLength);
+            System.arraycopy(window, ownedLength, window, 0, overlap);
+            length = overlap;
+          }
+          window[length++] = whitespace && whitespaces == Whitespaces.COLLAPSE ? ' ' : current;
+        }
+      }
+    }
+    consumer.accept(CharBuffer.wrap(window, 0, length), length);
+  }
+}
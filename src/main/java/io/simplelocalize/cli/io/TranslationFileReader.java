@@ -0,0 +1,92 @@
+package io.simplelocalize.cli.io;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Streams translations from downloaded translation files without loading whole files into memory.
+ * Keys of nested objects are joined with dots, like in files downloaded with the 'WRITE_NESTED' option.
+ */
+public class TranslationFileReader
+{
+  public static final String SINGLE_LANGUAGE_JSON = "single-language-json";
+  public static final String MULTI_LANGUAGE_JSON = "multi-language-json";
+
+  private static final Set<String> SUPPORTED_FORMATS = Set.of(SINGLE_LANGUAGE_JSON, MULTI_LANGUAGE_JSON);
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  public static boolean isSupportedFormat(String format)
+  {
+    return SUPPORTED_FORMATS.contains(format);
+  }
+
+  /**
+   * Passes every key of the file to the consumer. For single language files, all keys belong to the given language.
+   */
+  public void readTranslations(Path file, String format, String language, TranslationConsumer consumer) throws IOException
+  {
+    if (!isSupportedFormat(format))
+    {
+      throw new IllegalArgumentException("Unsupported translation file format: " + format);
+    }
+    try (InputStream inputStream = Files.newInputStream(file);
+         JsonParser parser = jsonFactory.createParser(inputStream))
+    {
+      if (parser.nextToken() != JsonToken.START_OBJECT)
+      {
+        return;
+      }
+      if (SINGLE_LANGUAGE_JSON.equals(format))
+      {
+        readObject(parser, "", language, consumer);
+        return;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME)
+      {
+        String fileLanguage = parser.getCurrentName();
+        if (parser.nextToken() == JsonToken.START_OBJECT)
+        {
+          readObject(parser, "", fileLanguage, consumer);
+        } else
+        {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  private void readObject(JsonParser parser, String keyPrefix, String language, TranslationConsumer consumer) throws IOException
+  {
+    while (parser.nextToken() == JsonToken.FIELD_NAME)
+    {
+      String key = keyPrefix + parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+      if (valueToken == JsonToken.START_OBJECT)
+      {
+        readObject(parser, key + ".", language, consumer);
+      } else if (valueToken == JsonToken.START_ARRAY)
+      {
+        parser.skipChildren();
+        consumer.accept(language, key, true);
+      } else
+      {
+        boolean isTranslated = valueToken != JsonToken.VALUE_NULL && !parser.getText().isEmpty();
+        consumer.accept(language, key, isTranslated);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  public interface TranslationConsumer
+  {
+    void accept(String language, String key, boolean isTranslated);
+  }
+}
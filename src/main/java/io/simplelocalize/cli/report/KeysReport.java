@@ -0,0 +1,88 @@
+package io.simplelocalize.cli.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Compares keys extracted from project files with keys of translation files.
+ * Unused keys are in translation files but not in project files; missing keys are used in project files
+ * but have no translation in a language.
+ */
+public final class KeysReport
+{
+  private final List<String> unusedKeys;
+  private final SortedMap<String, List<String>> missingKeysByLanguage;
+
+  private KeysReport(List<String> unusedKeys, SortedMap<String, List<String>> missingKeysByLanguage)
+  {
+    this.unusedKeys = unusedKeys;
+    this.missingKeysByLanguage = missingKeysByLanguage;
+  }
+
+  public List<String> getUnusedKeys()
+  {
+    return unusedKeys;
+  }
+
+  public SortedMap<String, List<String>> getMissingKeysByLanguage()
+  {
+    return missingKeysByLanguage;
+  }
+
+  public static final class KeysReportCollector
+  {
+    private final Set<String> extractedKeys;
+    private final Set<String> translationKeys = new HashSet<>();
+    private final Map<String, Set<String>> translatedKeysByLanguage = new HashMap<>();
+
+    public KeysReportCollector(Set<String> extractedKeys)
+    {
+      this.extractedKeys = extractedKeys;
+    }
+
+    public synchronized void addTranslation(String language, String key, boolean isTranslated)
+    {
+      translationKeys.add(key);
+      Set<String> translatedKeys = translatedKeysByLanguage.computeIfAbsent(language, lang -> new HashSet<>());
+      if (isTranslated)
+      {
+        translatedKeys.add(key);
+      }
+    }
+
+    public synchronized KeysReport toReport()
+    {
+      List<String> unusedKeys = new ArrayList<>();
+      for (String key : translationKeys)
+      {
+        if (!extractedKeys.contains(key))
+        {
+          unusedKeys.add(key);
+        }
+      }
+      Collections.sort(unusedKeys);
+
+      SortedMap<String, List<String>> missingKeysByLanguage = new TreeMap<>();
+      translatedKeysByLanguage.forEach((language, translatedKeys) -> {
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : extractedKeys)
+        {
+          if (!translatedKeys.contains(key))
+          {
+            missingKeys.add(key);
+          }
+        }
+        Collections.sort(missingKeys);
+        missingKeysByLanguage.put(language, List.copyOf(missingKeys));
+      });
+      return new KeysReport(List.copyOf(unusedKeys), Collections.unmodifiableSortedMap(missingKeysByLanguage));
+    }
+  }
+}
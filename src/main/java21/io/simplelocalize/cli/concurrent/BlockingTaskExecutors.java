@@ -0,0 +1,31 @@
+package io.simplelocalize.cli.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors for tasks which mostly wait for the network or disk, e.g. key uploads and file downloads.
+ * <p>
+ * Java 21 version of the class, packaged in META-INF/versions/21 of the multi-release JAR.
+ * Every task runs on its own virtual thread, so thousands of waiting tasks do not need a sized pool of platform threads.
+ * Callers which must limit concurrency towards the server still do it with a semaphore.
+ */
+public final class BlockingTaskExecutors
+{
+  private BlockingTaskExecutors()
+  {
+  }
+
+  /**
+   * @param maxPlatformThreads ignored, virtual threads are not pooled
+   */
+  public static ExecutorService newExecutor(int maxPlatformThreads)
+  {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  public static boolean isVirtualThreads()
+  {
+    return true;
+  }
+}
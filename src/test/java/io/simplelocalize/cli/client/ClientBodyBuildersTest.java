@@ -1,20 +1,26 @@
 package io.simplelocalize.cli.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class ClientBodyBuildersTest
 {
 
   @Test
-  void ofKeysBody() throws JsonProcessingException
+  void ofKeysBody() throws Exception
   {
     //given
     List<String> input = List.of("key1", "key2");
@@ -24,6 +30,39 @@ class ClientBodyBuildersTest
 
     //then
     Assertions.assertThat(result).isNotNull();
+    Assertions.assertThat(readBody(result)).isEqualTo("{\"content\":[{\"key\":\"key1\"},{\"key\":\"key2\"}]}");
+  }
+
+  @Test
+  void ofKeysBodyShouldStreamManyChunks() throws Exception
+  {
+    //given
+    List<String> input = IntStream.range(0, 2_000)
+            .mapToObj(i -> "key\"" + i)
+            .collect(Collectors.toList());
+
+    //when
+    HttpRequest.BodyPublisher result = ClientBodyBuilders.ofKeysBody(input);
+
+    //then
+    String body = readBody(result);
+    Assertions.assertThat(body)
+            .startsWith("{\"content\":[{\"key\":\"key\\\"0\"}")
+            .endsWith("{\"key\":\"key\\\"1999\"}]}");
+    Assertions.assertThat(body.split("\\{\"key\"")).hasSize(2_001);
+  }
+
+  @Test
+  void ofKeysBodyShouldWriteEmptyContent() throws Exception
+  {
+    //given
+    List<String> input = List.of();
+
+    //when
+    HttpRequest.BodyPublisher result = ClientBodyBuilders.ofKeysBody(input);
+
+    //then
+    Assertions.assertThat(readBody(result)).isEqualTo("{\"content\":[]}");
   }
 
   @Test
@@ -42,4 +81,40 @@ class ClientBodyBuildersTest
     //then
     Assertions.assertThat(result).isNotNull();
   }
+
+  private static String readBody(HttpRequest.BodyPublisher publisher) throws Exception
+  {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CompletableFuture<Void> completed = new CompletableFuture<>();
+    publisher.subscribe(new Flow.Subscriber<>()
+    {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription)
+      {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(ByteBuffer item)
+      {
+        byte[] bytes = new byte[item.remaining()];
+        item.get(bytes);
+        output.writeBytes(bytes);
+      }
+
+      @Override
+      public void onError(Throwable throwable)
+      {
+        completed.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onComplete()
+      {
+        completed.complete(null);
+      }
+    });
+    completed.get();
+    return output.toString(StandardCharsets.UTF_8);
+  }
 }
@@ -0,0 +1,84 @@
+package io.simplelocalize.cli.client;
+
+import io.simplelocalize.cli.client.dto.DownloadableFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.simplelocalize.cli.client.dto.DownloadableFile.DownloadableFileBuilder.aDownloadableFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectKeysCacheTest
+{
+
+  private final DownloadableFile exportedFile = aDownloadableFile().withUrl("https://s3.simplelocalize.io/export.json").build();
+
+  @Mock
+  private SimpleLocalizeClient client;
+
+  @TempDir
+  Path cacheDirectory;
+
+  @Test
+  void shouldReuseCachedKeysWhenVersionIsUnchanged() throws Exception
+  {
+    //given
+    Path cachePath = cacheDirectory.resolve("keys-cache.json");
+    Mockito.when(client.fetchDownloadableFiles(Mockito.any())).thenReturn(List.of(exportedFile));
+    Mockito.when(client.fetchFileVersion(exportedFile)).thenReturn("\"v1\"");
+    Mockito.when(client.downloadKeys(exportedFile)).thenReturn(Set.of("HELLO", "WORLD"));
+
+    //when
+    Optional<Set<String>> first = new ProjectKeysCache(client, cachePath, "my-api-key").loadProjectKeys();
+    Optional<Set<String>> second = new ProjectKeysCache(client, cachePath, "my-api-key").loadProjectKeys();
+
+    //then
+    assertThat(first).contains(Set.of("HELLO", "WORLD"));
+    assertThat(second).contains(Set.of("HELLO", "WORLD"));
+    Mockito.verify(client, Mockito.times(1)).downloadKeys(exportedFile);
+  }
+
+  @Test
+  void shouldDownloadKeysAgainWhenVersionChanged() throws Exception
+  {
+    //given
+    Path cachePath = cacheDirectory.resolve("keys-cache.json");
+    Mockito.when(client.fetchDownloadableFiles(Mockito.any())).thenReturn(List.of(exportedFile));
+    Mockito.when(client.fetchFileVersion(exportedFile)).thenReturn("\"v1\"", "\"v2\"");
+    Mockito.when(client.downloadKeys(exportedFile)).thenReturn(Set.of("HELLO")).thenReturn(Set.of("HELLO", "NEW"));
+
+    //when
+    new ProjectKeysCache(client, cachePath, "my-api-key").loadProjectKeys();
+    Optional<Set<String>> result = new ProjectKeysCache(client, cachePath, "my-api-key").loadProjectKeys();
+
+    //then
+    assertThat(result).contains(Set.of("HELLO", "NEW"));
+    Mockito.verify(client, Mockito.times(2)).downloadKeys(exportedFile);
+  }
+
+  @Test
+  void shouldNotReuseCacheOfAnotherProject() throws Exception
+  {
+    //given
+    Path cachePath = cacheDirectory.resolve("keys-cache.json");
+    Mockito.when(client.fetchDownloadableFiles(Mockito.any())).thenReturn(List.of(exportedFile));
+    Mockito.when(client.fetchFileVersion(exportedFile)).thenReturn("\"v1\"");
+    Mockito.when(client.downloadKeys(exportedFile)).thenReturn(Set.of("HELLO")).thenReturn(Set.of("OTHER"));
+
+    //when
+    new ProjectKeysCache(client, cachePath, "my-api-key").loadProjectKeys();
+    Optional<Set<String>> result = new ProjectKeysCache(client, cachePath, "other-api-key").loadProjectKeys();
+
+    //then
+    assertThat(result).contains(Set.of("OTHER"));
+  }
+}
@@ -13,10 +13,12 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.matchers.Times;
 import org.mockserver.model.MediaType;
 import org.mockserver.model.StringBody;
+import org.mockserver.verify.VerificationTimes;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static io.simplelocalize.cli.client.dto.DownloadRequest.DownloadRequestBuilder.aDownloadRequest;
@@ -73,6 +75,70 @@ public class SimpleLocalizeClientTest
     //then
   }
 
+  @Test
+  void shouldSendKeysInBatchesAndSkipIgnoredKeys() throws Exception
+  {
+    //given
+    List<String> givenKeys = List.of("first", "ignored", "second");
+
+    mockServer.when(request()
+                            .withMethod("POST")
+                            .withPath("/cli/v1/keys")
+                            .withHeader("X-SimpleLocalize-Token", "c5d2a0a5e4bb4d1b8b6a0e2a5b3f9c11")
+                            .withBody(StringBody.exact("{\"content\":[{\"key\":\"first\"}]}")),
+                    Times.exactly(1))
+            .respond(response().withStatusCode(200).withBody("{ 'msg': 'OK', data: { uniqueKeysProcessed: 1 } }"));
+    mockServer.when(request()
+                            .withMethod("POST")
+                            .withPath("/cli/v1/keys")
+                            .withHeader("X-SimpleLocalize-Token", "c5d2a0a5e4bb4d1b8b6a0e2a5b3f9c11")
+                            .withBody(StringBody.exact("{\"content\":[{\"key\":\"second\"}]}")),
+                    Times.exactly(1))
+            .respond(response().withStatusCode(200).withBody("{ 'msg': 'OK', data: { uniqueKeysProcessed: 1 } }"));
+
+    SimpleLocalizeClient client = new SimpleLocalizeClient(MOCK_SERVER_BASE_URL, "c5d2a0a5e4bb4d1b8b6a0e2a5b3f9c11", 1);
+
+    //when
+    client.uploadKeys(givenKeys, Set.of("ignored"));
+
+    //then
+    mockServer.verify(request()
+                    .withPath("/cli/v1/keys")
+                    .withHeader("X-SimpleLocalize-Token", "c5d2a0a5e4bb4d1b8b6a0e2a5b3f9c11"),
+            VerificationTimes.exactly(2));
+  }
+
+  @Test
+  void shouldRetryKeysBatchWhenServerFails() throws Exception
+  {
+    //given
+    List<String> givenKeys = List.of("retried");
+
+    mockServer.when(request()
+                            .withMethod("POST")
+                            .withPath("/cli/v1/keys")
+                            .withHeader("X-SimpleLocalize-Token", "0b7e0c2b5f1d4e6a9c8d7f6e5a4b3c2d"),
+                    Times.exactly(1))
+            .respond(response().withStatusCode(503).withBody("{ 'msg': 'unavailable' }"));
+    mockServer.when(request()
+                            .withMethod("POST")
+                            .withPath("/cli/v1/keys")
+                            .withHeader("X-SimpleLocalize-Token", "0b7e0c2b5f1d4e6a9c8d7f6e5a4b3c2d"),
+                    Times.exactly(1))
+            .respond(response().withStatusCode(200).withBody("{ 'msg': 'OK', data: { uniqueKeysProcessed: 1 } }"));
+
+    SimpleLocalizeClient client = new SimpleLocalizeClient(MOCK_SERVER_BASE_URL, "0b7e0c2b5f1d4e6a9c8d7f6e5a4b3c2d");
+
+    //when
+    client.uploadKeys(givenKeys);
+
+    //then
+    mockServer.verify(request()
+                    .withPath("/cli/v1/keys")
+                    .withHeader("X-SimpleLocalize-Token", "0b7e0c2b5f1d4e6a9c8d7f6e5a4b3c2d"),
+            VerificationTimes.exactly(2));
+  }
+
   @Test
   void shouldUploadFileWithLanguageKey() throws Exception
   {
@@ -290,6 +356,57 @@ public class SimpleLocalizeClientTest
     assertThat(Path.of(downloadPath)).hasContent("sample").isRegularFile();
   }
 
+  @Test
+  void shouldDownloadKeysFromMultiLanguageFile() throws Exception
+  {
+    //given
+    SimpleLocalizeClient client = new SimpleLocalizeClient(MOCK_SERVER_BASE_URL, "96a7b6ca75c79d4af4dfd5db2946fdd4");
+    mockServer.when(request()
+                            .withMethod("GET")
+                            .withPath("/s3/export"),
+                    Times.exactly(1))
+            .respond(
+                    response()
+                            .withStatusCode(200)
+                            .withContentType(MediaType.APPLICATION_JSON_UTF_8)
+                            .withBody("{\"en\": {\"HELLO\": \"Hello\", \"BYE\": \"Bye\"}, \"pl\": {\"HELLO\": \"Cześć\", \"ONLY_PL\": \"\"}}")
+            );
+
+    DownloadableFile downloadableFile = new DownloadableFile();
+    downloadableFile.setUrl(MOCK_SERVER_BASE_URL + "/s3/export");
+
+    //when
+    Set<String> keys = client.downloadKeys(downloadableFile);
+
+    //then
+    assertThat(keys).containsExactlyInAnyOrder("HELLO", "BYE", "ONLY_PL");
+  }
+
+  @Test
+  void shouldFetchFileVersion() throws Exception
+  {
+    //given
+    SimpleLocalizeClient client = new SimpleLocalizeClient(MOCK_SERVER_BASE_URL, "96a7b6ca75c79d4af4dfd5db2946fdd4");
+    mockServer.when(request()
+                            .withMethod("HEAD")
+                            .withPath("/s3/versioned"),
+                    Times.exactly(1))
+            .respond(
+                    response()
+                            .withStatusCode(200)
+                            .withHeader("ETag", "\"abc123\"")
+            );
+
+    DownloadableFile downloadableFile = new DownloadableFile();
+    downloadableFile.setUrl(MOCK_SERVER_BASE_URL + "/s3/versioned");
+
+    //when
+    String version = client.fetchFileVersion(downloadableFile);
+
+    //then
+    assertThat(version).isEqualTo("\"abc123\"");
+  }
+
   @Test
   void shouldValidateQuality() throws Exception
   {
@@ -2,17 +2,27 @@ package io.simplelocalize.cli.command;
 
 import io.simplelocalize.cli.TestResourcesUtility;
 import io.simplelocalize.cli.client.SimpleLocalizeClient;
+import io.simplelocalize.cli.client.dto.DownloadableFile;
 import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.extraction.ProjectProcessorFactory;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+
+import static io.simplelocalize.cli.client.dto.DownloadableFile.DownloadableFileBuilder.aDownloadableFile;
 
 @ExtendWith(MockitoExtension.class)
 class ExtractCommandTest
@@ -41,4 +51,168 @@ class ExtractCommandTest
     keys.addAll(List.of("DONATION", "FURTHER_WORK"));
     Mockito.verify(client, Mockito.times(1)).uploadKeys(keys);
   }
+
+  @Test
+  void shouldNotUploadIgnoredKeys() throws IOException, InterruptedException
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl-small-subset");
+    Configuration configuration = new Configuration();
+    configuration.setApiKey("my-api-key");
+    configuration.setSearchDir(path.toString());
+    configuration.setProjectType("yahoo/react-intl");
+    configuration.setIgnoreKeys(List.of("FURTHER_*"));
+
+    //when
+    ExtractCommand extractCommand = new ExtractCommand(client, configuration);
+    extractCommand.invoke();
+
+    //then
+    Mockito.verify(client, Mockito.times(1)).uploadKeys(Set.of("DONATION"));
+  }
+
+  @Test
+  void shouldUploadOnlyNewKeys(@TempDir Path cacheDirectory) throws IOException, InterruptedException
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl-small-subset");
+    Configuration configuration = new Configuration();
+    configuration.setApiKey("my-api-key");
+    configuration.setSearchDir(path.toString());
+    configuration.setProjectType("yahoo/react-intl");
+    configuration.setOnlyNewKeys(true);
+    configuration.setKeysCachePath(cacheDirectory.resolve("keys-cache.json").toString());
+
+    DownloadableFile exportedFile = aDownloadableFile().withUrl("https://s3.simplelocalize.io/export.json").build();
+    Mockito.when(client.fetchDownloadableFiles(Mockito.any())).thenReturn(List.of(exportedFile));
+    Mockito.when(client.fetchFileVersion(exportedFile)).thenReturn("\"v1\"");
+    Mockito.when(client.downloadKeys(exportedFile)).thenReturn(Set.of("DONATION"));
+
+    //when
+    ExtractCommand extractCommand = new ExtractCommand(client, configuration);
+    extractCommand.invoke();
+
+    //then
+    Mockito.verify(client, Mockito.times(1)).uploadKeys(Set.of("FURTHER_WORK"));
+  }
+
+  @Test
+  void shouldUploadAllKeysWhenProjectKeysUnavailable(@TempDir Path cacheDirectory) throws IOException, InterruptedException
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl-small-subset");
+    Configuration configuration = new Configuration();
+    configuration.setApiKey("my-api-key");
+    configuration.setSearchDir(path.toString());
+    configuration.setProjectType("yahoo/react-intl");
+    configuration.setOnlyNewKeys(true);
+    configuration.setKeysCachePath(cacheDirectory.resolve("keys-cache.json").toString());
+
+    Mockito.when(client.fetchDownloadableFiles(Mockito.any())).thenThrow(new IOException("offline"));
+
+    //when
+    ExtractCommand extractCommand = new ExtractCommand(client, configuration);
+    extractCommand.invoke();
+
+    //then
+    Mockito.verify(client, Mockito.times(1)).uploadKeys(Set.of("DONATION", "FURTHER_WORK"));
+  }
+
+  @Test
+  void shouldUploadMergedKeysOfAllShards(@TempDir Path partialResultsDirectory) throws IOException, InterruptedException
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl");
+    Set<String> expectedKeys = new ProjectProcessorFactory().createForType("yahoo/react-intl").process(path).getKeys();
+    for (int index = 1; index <= 3; index++)
+    {
+      Configuration shardConfiguration = new Configuration();
+      shardConfiguration.setSearchDir(path.toString());
+      shardConfiguration.setProjectType("yahoo/react-intl");
+      shardConfiguration.setShard(index + "/3");
+      shardConfiguration.setPartialResultPath(partialResultsDirectory.resolve("shard-" + index + ".keys").toString());
+      new ExtractCommand(client, shardConfiguration).invoke();
+    }
+    Configuration configuration = new Configuration();
+    configuration.setMergePartialResults(List.of(partialResultsDirectory.toString()));
+
+    //when
+    ExtractCommand extractCommand = new ExtractCommand(client, configuration);
+    extractCommand.invoke();
+
+    //then
+    Mockito.verify(client, Mockito.times(1)).uploadKeys(expectedKeys);
+    Mockito.verifyNoMoreInteractions(client);
+  }
+
+  @Test
+  void shouldNotUploadKeysWhenShardIsMissing(@TempDir Path partialResultsDirectory)
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl");
+    Configuration shardConfiguration = new Configuration();
+    shardConfiguration.setSearchDir(path.toString());
+    shardConfiguration.setProjectType("yahoo/react-intl");
+    shardConfiguration.setShard("1/2");
+    shardConfiguration.setPartialResultPath(partialResultsDirectory.resolve("shard-1.keys").toString());
+    new ExtractCommand(client, shardConfiguration).invoke();
+    Configuration configuration = new Configuration();
+    configuration.setMergePartialResults(List.of(partialResultsDirectory.toString()));
+
+    //when
+    ExtractCommand extractCommand = new ExtractCommand(client, configuration);
+    extractCommand.invoke();
+
+    //then
+    Mockito.verifyNoInteractions(client);
+  }
+
+  @Test
+  void shouldWriteShardWithoutApiKey(@TempDir Path partialResultsDirectory)
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl");
+    Path partialResultPath = partialResultsDirectory.resolve("shard-1.keys");
+    Configuration configuration = new Configuration();
+    configuration.setSearchDir(path.toString());
+    configuration.setProjectType("yahoo/react-intl");
+    configuration.setShard("1/1");
+    configuration.setPartialResultPath(partialResultPath.toString());
+
+    //when
+    ExtractCommand extractCommand = new ExtractCommand(() -> SimpleLocalizeClient.withProductionServer(configuration.getApiKey()), configuration);
+    extractCommand.invoke();
+
+    //then
+    Assertions.assertThat(partialResultPath).exists();
+  }
+
+  @Test
+  void shouldExportKeysToStandardOutputWithoutApiKey()
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl-small-subset");
+    Configuration configuration = new Configuration();
+    configuration.setSearchDir(path.toString());
+    configuration.setProjectType("yahoo/react-intl");
+    configuration.setOutput("-");
+    PrintStream standardOutput = System.out;
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    //when
+    try
+    {
+      System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+      ExtractCommand extractCommand = new ExtractCommand(() -> SimpleLocalizeClient.withProductionServer(configuration.getApiKey()), configuration);
+      extractCommand.invoke();
+    } finally
+    {
+      System.setOut(standardOutput);
+    }
+
+    //then
+    Assertions.assertThat(output.toString(StandardCharsets.UTF_8))
+            .contains("\"DONATION\"")
+            .contains("\"FURTHER_WORK\"");
+  }
 }
@@ -0,0 +1,97 @@
+package io.simplelocalize.cli.command;
+
+import io.simplelocalize.cli.configuration.Configuration;
+import io.simplelocalize.cli.configuration.ConfigurationValidator;
+import io.simplelocalize.cli.extraction.ExtractionRule;
+import io.simplelocalize.cli.report.KeysReport;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class ReportCommandTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldReportUnusedAndMissingKeysOfSingleLanguageFiles() throws IOException
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Files.writeString(sources.resolve("App.js"), " t('home.title'); t('home.description'); t('about'); t('ignored')");
+    Path locales = Files.createDirectories(directory.resolve("locales"));
+    Files.writeString(locales.resolve("en.json"), "{\"home\": {\"title\": \"Home\", \"description\": \"Welcome\"}, \"about\": \"About\", \"old\": \"Old\"}");
+    Files.writeString(locales.resolve("de.json"), "{\"home\": {\"title\": \"Startseite\", \"description\": \"\"}, \"old\": null}");
+    Configuration configuration = new Configuration();
+    configuration.setProjectType("i18next/i18next");
+    configuration.setSearchDir(sources.toString());
+    configuration.setIgnoreKeys(List.of("ignored"));
+    configuration.setDownloadPath(locales + "/{lang}.json");
+    configuration.setDownloadFormat("single-language-json");
+
+    //when
+    ReportCommand reportCommand = new ReportCommand(configuration);
+    reportCommand.invoke();
+
+    //then
+    KeysReport report = reportCommand.getReport();
+    Assertions.assertThat(report.getUnusedKeys()).containsExactly("old");
+    Assertions.assertThat(report.getMissingKeysByLanguage()).containsOnlyKeys("de", "en");
+    Assertions.assertThat(report.getMissingKeysByLanguage().get("de")).containsExactly("about", "home.description");
+    Assertions.assertThat(report.getMissingKeysByLanguage().get("en")).isEmpty();
+  }
+
+  @Test
+  void shouldReportMissingKeysOfMultiLanguageFile() throws IOException
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Files.writeString(sources.resolve("App.js"), " t('title'); t('description')");
+    Path translations = Files.writeString(directory.resolve("messages.json"), "{\"en\": {\"title\": \"Title\", \"description\": \"Text\"}, \"pl\": {\"title\": \"Tytuł\"}}");
+    Configuration configuration = new Configuration();
+    configuration.setProjectType("i18next/i18next");
+    configuration.setSearchDir(sources.toString());
+    configuration.setDownloadPath(translations.toString());
+    configuration.setDownloadFormat("multi-language-json");
+
+    //when
+    ReportCommand reportCommand = new ReportCommand(configuration);
+    reportCommand.invoke();
+
+    //then
+    KeysReport report = reportCommand.getReport();
+    Assertions.assertThat(report.getUnusedKeys()).isEmpty();
+    Assertions.assertThat(report.getMissingKeysByLanguage().get("en")).isEmpty();
+    Assertions.assertThat(report.getMissingKeysByLanguage().get("pl")).containsExactly("description");
+  }
+
+  @Test
+  void shouldReportKeysOfExtractionRulesWithoutProjectType() throws IOException
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Files.writeString(sources.resolve("App.js"), " translate('title'); translate('description')");
+    Path translations = Files.writeString(directory.resolve("messages.json"), "{\"en\": {\"title\": \"Title\", \"old\": \"Old\"}}");
+    Configuration configuration = new Configuration();
+    configuration.setExtractionRules(List.of(new ExtractionRule("**/*.js", "translate(", null)));
+    configuration.setSearchDir(sources.toString());
+    configuration.setDownloadPath(translations.toString());
+    configuration.setDownloadFormat("multi-language-json");
+    new ConfigurationValidator().validateReportConfiguration(configuration);
+
+    //when
+    ReportCommand reportCommand = new ReportCommand(configuration);
+    reportCommand.invoke();
+
+    //then
+    KeysReport report = reportCommand.getReport();
+    Assertions.assertThat(report.getUnusedKeys()).containsExactly("old");
+    Assertions.assertThat(report.getMissingKeysByLanguage().get("en")).containsExactly("description");
+  }
+}
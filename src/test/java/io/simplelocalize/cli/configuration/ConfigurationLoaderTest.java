@@ -1,6 +1,7 @@
 package io.simplelocalize.cli.configuration;
 
 import io.simplelocalize.cli.exception.ConfigurationException;
+import io.simplelocalize.cli.extraction.ExtractionRule;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -65,6 +66,10 @@ class ConfigurationLoaderTest
     Assertions.assertThat(configuration.getDownloadOptions()).containsExactlyInAnyOrder("SPLIT_BY_NAMESPACES", "WRITE_NESTED");
 
     Assertions.assertThat(configuration.getLanguageKey()).isEqualTo("en");
+    Assertions.assertThat(configuration.getExtractionRules()).containsExactly(
+            new ExtractionRule("*.vue", "$tr(", null),
+            new ExtractionRule("src/**/*.ts", "translate(", "translate\\(\\s*\"([^\"]+)\"")
+    );
   }
 
   @Test
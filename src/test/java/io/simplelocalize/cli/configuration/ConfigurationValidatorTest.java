@@ -1,6 +1,7 @@
 package io.simplelocalize.cli.configuration;
 
 import io.simplelocalize.cli.exception.ConfigurationException;
+import io.simplelocalize.cli.extraction.ExtractionRule;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +61,21 @@ class ConfigurationValidatorTest
     });
     //then
   }
+
+  @Test
+  void validateReportConfigurationWithExtractionRulesOnly()
+  {
+    //given
+    Configuration configuration = new Configuration();
+    configuration.setSearchDir("./src");
+    configuration.setDownloadFormat("single-language-json");
+    configuration.setDownloadPath("./locales/{lang}.json");
+    configuration.setExtractionRules(List.of(new ExtractionRule("**/*.js", "t(", null)));
+
+    //when
+    configurationValidator.validateReportConfiguration(configuration);
+
+    //then
+
+  }
 }
@@ -0,0 +1,52 @@
+package io.simplelocalize.cli.extraction;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CompactKeySetAccumulatorTest
+{
+
+  @Test
+  public void shouldCollectKeysAddedConcurrently()
+  {
+    //given
+    CompactKeySetAccumulator accumulator = new CompactKeySetAccumulator();
+    Set<String> expected = ConcurrentHashMap.newKeySet();
+
+    //when
+    IntStream.range(0, 2000).parallel().forEach(file -> {
+      Set<String> fileKeys = IntStream.range(0, 20)
+              .mapToObj(i -> "PAGE_" + (file % 300) + ".KEY_" + i)
+              .collect(Collectors.toSet());
+      expected.addAll(fileKeys);
+      accumulator.addAll(fileKeys);
+    });
+    CompactKeySet keys = accumulator.toKeySet();
+
+    //then
+    Assertions.assertThat(expected).hasSizeGreaterThan(CompactKeySetAccumulator.BATCH_SIZE);
+    Assertions.assertThat(keys).isEqualTo(new HashSet<>(expected));
+    Assertions.assertThat(accumulator.toKeySet()).isEqualTo(keys);
+  }
+
+  @Test
+  public void shouldReturnEmptySetWithoutKeys()
+  {
+    //given
+    CompactKeySetAccumulator accumulator = new CompactKeySetAccumulator();
+
+    //when
+    accumulator.addAll(List.of());
+    CompactKeySet keys = accumulator.toKeySet();
+
+    //then
+    Assertions.assertThat(keys).isEmpty();
+  }
+}
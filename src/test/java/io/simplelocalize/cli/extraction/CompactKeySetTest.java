@@ -0,0 +1,116 @@
+package io.simplelocalize.cli.extraction;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class CompactKeySetTest
+{
+
+  @Test
+  public void shouldContainSameKeysAsHashSet()
+  {
+    //given
+    Random random = new Random(42);
+    Set<String> expected = new HashSet<>();
+    for (int i = 0; i < 5000; i++)
+    {
+      expected.add(randomKey(random));
+    }
+
+    //when
+    CompactKeySet keys = CompactKeySet.copyOf(new ArrayList<>(expected));
+
+    //then
+    Assertions.assertThat(keys).hasSize(expected.size());
+    Assertions.assertThat(keys).isEqualTo(expected);
+    Assertions.assertThat(keys.hashCode()).isEqualTo(expected.hashCode());
+    for (int i = 0; i < 5000; i++)
+    {
+      String candidate = randomKey(random);
+      Assertions.assertThat(keys.contains(candidate)).isEqualTo(expected.contains(candidate));
+    }
+  }
+
+  @Test
+  public void shouldIterateKeysSortedByCodePoint()
+  {
+    //given
+    List<String> input = List.of("b", "a", "ab", "😀", "～", "a", "");
+
+    //when
+    CompactKeySet keys = CompactKeySet.copyOf(input);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("", "a", "ab", "b", "～", "😀");
+    Assertions.assertThat(keys).doesNotContain("aa", "c", "\uD83D");
+  }
+
+  @Test
+  public void shouldMergeSets()
+  {
+    //given
+    CompactKeySet first = CompactKeySet.copyOf(List.of("home.title", "home.description", "shared"));
+    CompactKeySet second = CompactKeySet.copyOf(List.of("about.title", "shared", "zebra"));
+
+    //when
+    CompactKeySet union = CompactKeySet.union(first, second);
+
+    //then
+    Assertions.assertThat(union).containsExactly("about.title", "home.description", "home.title", "shared", "zebra");
+    Assertions.assertThat(CompactKeySet.union(first, CompactKeySet.empty())).isSameAs(first);
+  }
+
+  @Test
+  public void shouldRejectModifications()
+  {
+    //given
+    CompactKeySet keys = CompactKeySet.copyOf(List.of("key"));
+
+    //when & then
+    Assertions.assertThatThrownBy(() -> keys.add("other")).isInstanceOf(UnsupportedOperationException.class);
+    Assertions.assertThatThrownBy(() -> keys.iterator().remove()).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void shouldStoreSharedPrefixesOnce()
+  {
+    //given
+    List<String> input = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++)
+    {
+      input.add("PAGE_" + (i % 100) + ".SECTION.TRANSLATION_KEY_" + i);
+    }
+    long rawSize = input.stream().mapToLong(String::length).sum();
+
+    //when
+    CompactKeySet keys = CompactKeySet.copyOf(input);
+
+    //then
+    Assertions.assertThat(keys).hasSize(100_000);
+    Assertions.assertThat((long) keys.getStorageSize()).isLessThan(rawSize / 2);
+    Assertions.assertThat(keys).contains("PAGE_7.SECTION.TRANSLATION_KEY_99907");
+  }
+
+  private static String randomKey(Random random)
+  {
+    String alphabet = "ab.é中😀";
+    StringBuilder key = new StringBuilder();
+    int length = random.nextInt(6);
+    for (int i = 0; i < length; i++)
+    {
+      int index = random.nextInt(alphabet.length() - 1);
+      key.append(alphabet.charAt(index));
+      if (Character.isHighSurrogate(alphabet.charAt(index)))
+      {
+        key.append(alphabet.charAt(index + 1));
+      }
+    }
+    return key.toString();
+  }
+}
@@ -1,10 +1,16 @@
 package io.simplelocalize.cli.extraction;
 
+import io.simplelocalize.cli.extraction.processor.CustomRulesProcessor;
 import io.simplelocalize.cli.extraction.processor.ExtractionProcessor;
+import io.simplelocalize.cli.extraction.processor.MultiProjectProcessor;
 import io.simplelocalize.cli.extraction.processor.YahooReactIntlProcessor;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
+
 public class ExtractionProcessorFactoryTest
 {
 
@@ -21,6 +27,38 @@ public class ExtractionProcessorFactoryTest
     Assertions.assertThat(forType).isInstanceOf(YahooReactIntlProcessor.class);
   }
 
+  @Test
+  public void shouldCreateMultiProjectProcessorWhenManyProjectTypes()
+  {
+    //given
+    ProjectProcessorFactory projectProcessorFactory = new ProjectProcessorFactory();
+
+    //when
+    ExtractionProcessor forType = projectProcessorFactory.createForType("yahoo/react-intl, google/android,yahoo/react-intl");
+
+    //then
+    Assertions.assertThat(forType).isInstanceOf(MultiProjectProcessor.class);
+    Assertions.assertThat(forType.getProjectTypeSupport()).isEqualTo("yahoo/react-intl,google/android");
+  }
+
+  @Test
+  public void shouldAddCustomRulesToProjectTypes()
+  {
+    //given
+    ProjectProcessorFactory projectProcessorFactory = new ProjectProcessorFactory();
+    ExtractionOptions extractionOptions = anExtractionOptions()
+            .withExtractionRules(List.of(new ExtractionRule("*.vue", "$tr(", null)))
+            .build();
+
+    //when
+    ExtractionProcessor withProjectType = projectProcessorFactory.createForType("yahoo/react-intl", extractionOptions);
+    ExtractionProcessor withoutProjectType = projectProcessorFactory.createForType(null, extractionOptions);
+
+    //then
+    Assertions.assertThat(withProjectType.getProjectTypeSupport()).isEqualTo("yahoo/react-intl,custom");
+    Assertions.assertThat(withoutProjectType).isInstanceOf(CustomRulesProcessor.class);
+  }
+
   @Test
   public void shouldThrowWhenUnknownProjectType() throws Exception
   {
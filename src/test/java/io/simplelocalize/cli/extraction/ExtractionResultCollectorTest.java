@@ -0,0 +1,175 @@
+package io.simplelocalize.cli.extraction;
+
+import io.simplelocalize.cli.extraction.keys.KeyExtractor;
+import io.simplelocalize.cli.io.FileContentReader;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class ExtractionResultCollectorTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldScanIdenticalFilesOnce() throws Exception
+  {
+    //given
+    Path original = Files.writeString(directory.resolve("original.js"), "t('first')");
+    Path copy = Files.writeString(directory.resolve("copy.js"), "t('first')");
+    Path sameSize = Files.writeString(directory.resolve("same-size.js"), "t('other')");
+    Path otherSize = Files.writeString(directory.resolve("other-size.js"), "t('longer')");
+    List<Path> scannedFiles = new ArrayList<>();
+    KeyExtractor keyExtractor = file -> {
+      scannedFiles.add(file);
+      String content = FileContentReader.tryReadContent(file);
+      return Set.of(content.substring(3, content.length() - 2));
+    };
+    ExtractionResultCollector collector = new ExtractionResultCollector();
+
+    //when
+    collector.extract(keyExtractor, List.of(original, copy, sameSize, otherSize));
+    ExtractionResult result = collector.toResult();
+
+    //then
+    Assertions.assertThat(scannedFiles).containsExactly(original, sameSize, otherSize);
+    Assertions.assertThat(result.getKeys()).containsExactlyInAnyOrder("first", "other", "longer");
+    Assertions.assertThat(result.getProcessedFiles()).containsExactlyInAnyOrder(original, copy, sameSize, otherSize);
+  }
+
+  @Test
+  public void shouldNotShareKeysBetweenExtractors() throws Exception
+  {
+    //given
+    Path original = Files.writeString(directory.resolve("original.js"), "content");
+    Path copy = Files.writeString(directory.resolve("copy.js"), "content");
+    ExtractionResultCollector collector = new ExtractionResultCollector();
+
+    //when
+    collector.extract(file -> Set.of("first"), original);
+    collector.extract(file -> Set.of("second"), copy);
+
+    //then
+    Assertions.assertThat(collector.toResult().getKeys()).containsExactlyInAnyOrder("first", "second");
+  }
+
+  @Test
+  public void shouldSkipMinifiedAndGeneratedFiles() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("App.js"), "export const App = () => {\n  return t('title');\n};\n");
+    Path bundle = Files.writeString(directory.resolve("bundle.js"), "var a=function(){return t('title')};".repeat(100));
+    Path minified = Files.writeString(directory.resolve("app.min.js"), "t('title')");
+    Path generated = Files.writeString(directory.resolve("messages.js"), "// @generated by lingui, do not edit\nexport const messages = {};\n");
+    List<Path> scannedFiles = new ArrayList<>();
+    KeyExtractor keyExtractor = file -> {
+      scannedFiles.add(file);
+      return Set.of("title");
+    };
+    ExtractionRoute route = ExtractionRoute.forJavaScriptAndTypeScript(keyExtractor);
+    ExtractionResultCollector collector = new ExtractionResultCollector();
+
+    //when
+    List.of(source, bundle, minified, generated).forEach(file -> collector.extract(route, file));
+    ExtractionResult result = collector.toResult();
+
+    //then
+    Assertions.assertThat(scannedFiles).containsExactly(source);
+    Assertions.assertThat(result.getProcessedFiles()).containsExactly(source);
+  }
+
+  @Test
+  public void shouldExtractGeneratedFilesWhenIncluded() throws Exception
+  {
+    //given
+    Path bundle = Files.writeString(directory.resolve("bundle.js"), "var a=function(){return t('title')};".repeat(100));
+    ExtractionOptions extractionOptions = ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions()
+            .withGeneratedFilesExcluded(false)
+            .build();
+    ExtractionResultCollector collector = new ExtractionResultCollector(extractionOptions);
+
+    //when
+    collector.extract(ExtractionRoute.forJavaScriptAndTypeScript(file -> Set.of("title")), bundle);
+
+    //then
+    Assertions.assertThat(collector.toResult().getProcessedFiles()).containsExactly(bundle);
+  }
+
+  @Test
+  public void shouldSkipOnlyFilesWithGeneratedHeader() throws Exception
+  {
+    //given
+    Path doNotEdit = Files.writeString(directory.resolve("Form.js"), "// do not edit this form without design review\nexport const Form = () => t('title');\n");
+    Path methodStub = Files.writeString(directory.resolve("Page.ts"), "function onSave() {\n  // TODO Auto-generated method stub\n  return t('title');\n}\n");
+    Path annotation = Files.writeString(directory.resolve("Settings.tsx"), "@Generated()\nexport class Settings {\n  label = t('settings.autogenerated_password');\n}\n");
+    Path generated = Files.writeString(directory.resolve("messages.ts"), "// Code generated by gotext. DO NOT EDIT.\n\nexport const messages = {};\n");
+    List<Path> scannedFiles = new ArrayList<>();
+    KeyExtractor keyExtractor = file -> {
+      scannedFiles.add(file);
+      return Set.of("title");
+    };
+    ExtractionRoute route = ExtractionRoute.forJavaScriptAndTypeScript(keyExtractor);
+    ExtractionResultCollector collector = new ExtractionResultCollector();
+
+    //when
+    List.of(doNotEdit, methodStub, annotation, generated).forEach(file -> collector.extract(route, file));
+
+    //then
+    Assertions.assertThat(scannedFiles).containsExactly(doNotEdit, methodStub, annotation);
+    Assertions.assertThat(collector.toResult().getProcessedFiles()).containsExactlyInAnyOrder(doNotEdit, methodStub, annotation);
+  }
+
+  @Test
+  public void shouldNotSkipGeneratedFilesOfOtherRoutes() throws Exception
+  {
+    //given
+    Path generated = Files.writeString(directory.resolve("R.java"), "/* AUTO-GENERATED FILE. DO NOT MODIFY. */\npublic final class R {}\n");
+    ExtractionRoute route = ExtractionRoute.forExtension(".java", file -> Set.of("title"));
+    ExtractionResultCollector collector = new ExtractionResultCollector();
+
+    //when
+    collector.extract(route, generated);
+
+    //then
+    Assertions.assertThat(collector.toResult().getProcessedFiles()).containsExactly(generated);
+  }
+
+  @Test
+  public void shouldUseCachedKeysWithoutClassifyingFile() throws Exception
+  {
+    //given
+    Path cached = Files.writeString(directory.resolve("cached.js"), "var a=function(){return t('title')};".repeat(100));
+    FileKeysCache fileKeysCache = new FileKeysCache()
+    {
+      @Override
+      public Set<String> findKeys(Path file)
+      {
+        return Set.of("title");
+      }
+
+      @Override
+      public void putKeys(Path file, Set<String> keys)
+      {
+      }
+    };
+    ExtractionOptions extractionOptions = ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions()
+            .withFileKeysCache(fileKeysCache)
+            .build();
+    ExtractionResultCollector collector = new ExtractionResultCollector(extractionOptions);
+
+    //when
+    collector.extract(ExtractionRoute.forJavaScriptAndTypeScript(file -> Set.of("other")), cached);
+    ExtractionResult result = collector.toResult();
+
+    //then
+    Assertions.assertThat(result.getKeys()).containsExactly("title");
+    Assertions.assertThat(result.getProcessedFiles()).containsExactly(cached);
+  }
+}
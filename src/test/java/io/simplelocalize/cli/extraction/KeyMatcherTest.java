@@ -0,0 +1,85 @@
+package io.simplelocalize.cli.extraction;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class KeyMatcherTest
+{
+
+  @Test
+  public void shouldMatchExactKeysGlobsAndRegularExpressions()
+  {
+    //given
+    KeyMatcher keyMatcher = KeyMatcher.compile(List.of("WELCOME", "debug.*", "page.*.title", "item_?", "regex:test_[0-9]+", "regex:(?i)temp.*"));
+
+    //then
+    Assertions.assertThat(keyMatcher.matches("WELCOME")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("WELCOME_BACK")).isFalse();
+    Assertions.assertThat(keyMatcher.matches("debug.")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("debug.panel.title")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("debug")).isFalse();
+    Assertions.assertThat(keyMatcher.matches("page.home.title")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("page.home.subtitle")).isFalse();
+    Assertions.assertThat(keyMatcher.matches("item_1")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("item_10")).isFalse();
+    Assertions.assertThat(keyMatcher.matches("test_42")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("test_42a")).isFalse();
+    Assertions.assertThat(keyMatcher.matches("TEMPORARY")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("home.title")).isFalse();
+  }
+
+  @Test
+  public void shouldMatchGlobCharactersEscapedWithBackslash()
+  {
+    //given
+    KeyMatcher keyMatcher = KeyMatcher.compile(List.of("why\\?*"));
+
+    //then
+    Assertions.assertThat(keyMatcher.matches("why?")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("why? because")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("whyx")).isFalse();
+  }
+
+  @Test
+  public void shouldMatchWithManyRules()
+  {
+    //given
+    List<String> rules = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 2 == 0 ? "module_" + i + ".*" : "regex:feature_" + i + "\\.[a-z]+")
+            .collect(Collectors.toList());
+    KeyMatcher keyMatcher = KeyMatcher.compile(rules);
+
+    //then
+    Assertions.assertThat(keyMatcher.matches("module_9998.title")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("module_9999.title")).isFalse();
+    Assertions.assertThat(keyMatcher.matches("feature_9999.title")).isTrue();
+    Assertions.assertThat(keyMatcher.matches("feature_9999.title2")).isFalse();
+  }
+
+  @Test
+  public void shouldRejectInvalidRegularExpression()
+  {
+    //when
+    Throwable throwable = Assertions.catchThrowable(() -> KeyMatcher.compile(List.of("regex:test_[0-9")));
+
+    //then
+    Assertions.assertThat(throwable)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid ignore keys rule: regex:test_[0-9");
+  }
+
+  @Test
+  public void shouldMatchNothingWithoutRules()
+  {
+    //given
+    KeyMatcher keyMatcher = KeyMatcher.compile(List.of());
+
+    //then
+    Assertions.assertThat(keyMatcher.isEmpty()).isTrue();
+    Assertions.assertThat(keyMatcher.matches("WELCOME")).isFalse();
+  }
+}
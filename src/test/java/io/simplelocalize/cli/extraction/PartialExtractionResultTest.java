@@ -0,0 +1,135 @@
+package io.simplelocalize.cli.extraction;
+
+import io.simplelocalize.cli.TestResourcesUtility;
+import io.simplelocalize.cli.exception.PartialResultException;
+import io.simplelocalize.cli.extraction.processor.ExtractionProcessor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
+
+public class PartialExtractionResultTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldWriteAndReadPartialResult() throws Exception
+  {
+    //given
+    ExtractionResult result = ExtractionResult.of(Set.of("home.title", "home.description", "zażółć"), List.of(Path.of("src/Home.js")), List.of(Path.of("src/Huge.js")));
+    PartialExtractionResult partialResult = new PartialExtractionResult("yahoo/react-intl", new ExtractionShard(2, 3), result);
+    Path path = directory.resolve("shard.keys");
+
+    //when
+    partialResult.write(path);
+    PartialExtractionResult readResult = PartialExtractionResult.read(path);
+
+    //then
+    Assertions.assertThat(readResult.getProjectType()).isEqualTo("yahoo/react-intl");
+    Assertions.assertThat(readResult.getShard()).isEqualTo(new ExtractionShard(2, 3));
+    Assertions.assertThat(readResult.getResult()).isEqualTo(result);
+  }
+
+  @Test
+  public void shouldMergeShardsIntoSameResultAsSingleRun()
+  {
+    //given
+    Path path = TestResourcesUtility.read("react-intl");
+    ProjectProcessorFactory processorFactory = new ProjectProcessorFactory();
+    ExtractionResult expected = processorFactory.createForType("yahoo/react-intl").process(path);
+    List<PartialExtractionResult> partialResults = new ArrayList<>();
+    for (int index = 1; index <= 4; index++)
+    {
+      ExtractionShard shard = new ExtractionShard(index, 4);
+      ExtractionProcessor processor = processorFactory.createForType("yahoo/react-intl", anExtractionOptions().withShard(shard).build());
+      partialResults.add(new PartialExtractionResult("yahoo/react-intl", shard, processor.process(path)));
+    }
+
+    //when
+    ExtractionResult merged = PartialExtractionResult.merge(partialResults);
+    Collections.reverse(partialResults);
+    ExtractionResult mergedInReverse = PartialExtractionResult.merge(partialResults);
+
+    //then
+    Assertions.assertThat(merged).isEqualTo(expected);
+    Assertions.assertThat(mergedInReverse).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldRejectIncompleteShards()
+  {
+    //given
+    ExtractionResult result = ExtractionResult.of(Set.of("key"), List.of());
+    List<PartialExtractionResult> partialResults = List.of(
+            new PartialExtractionResult("mde/ejs", new ExtractionShard(1, 3), result),
+            new PartialExtractionResult("mde/ejs", new ExtractionShard(3, 3), result)
+    );
+
+    //when & then
+    Assertions.assertThatThrownBy(() -> PartialExtractionResult.merge(partialResults))
+            .isInstanceOf(PartialResultException.class)
+            .hasMessageContaining("[2]");
+  }
+
+  @Test
+  public void shouldAssignEveryFileToExactlyOneShard()
+  {
+    //given
+    Path searchDirectory = Path.of("project");
+
+    //when & then
+    for (int i = 0; i < 1000; i++)
+    {
+      Path file = searchDirectory.resolve("src/component-" + i + ".js");
+      int matchingShards = 0;
+      for (int index = 1; index <= 5; index++)
+      {
+        matchingShards += new ExtractionShard(index, 5).contains(searchDirectory, file) ? 1 : 0;
+      }
+      Assertions.assertThat(matchingShards).isEqualTo(1);
+    }
+    Assertions.assertThat(ExtractionShard.parse(" 2/5 ")).isEqualTo(new ExtractionShard(2, 5));
+    Assertions.assertThatThrownBy(() -> ExtractionShard.parse("0/5")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldWriteAndMergePartialResultsWithoutProjectType() throws Exception
+  {
+    //given
+    Path sources = TestResourcesUtility.read("react-intl");
+    ExtractionOptions extractionOptions = anExtractionOptions()
+            .withExtractionRules(List.of(new ExtractionRule("**/*.js", "id:", null)))
+            .build();
+    ProjectProcessorFactory processorFactory = new ProjectProcessorFactory();
+    ExtractionResult expected = processorFactory.createForType(null, extractionOptions).process(sources);
+    List<PartialExtractionResult> partialResults = new ArrayList<>();
+    for (int index = 1; index <= 2; index++)
+    {
+      ExtractionShard shard = new ExtractionShard(index, 2);
+      ExtractionOptions shardOptions = anExtractionOptions()
+              .withExtractionRules(extractionOptions.getExtractionRules())
+              .withShard(shard)
+              .build();
+      Path path = directory.resolve("shard-" + index + ".keys");
+      new PartialExtractionResult(null, shard, processorFactory.createForType(null, shardOptions).process(sources)).write(path);
+      partialResults.add(PartialExtractionResult.read(path));
+    }
+
+    //when
+    ExtractionResult merged = PartialExtractionResult.merge(partialResults);
+
+    //then
+    Assertions.assertThat(partialResults).extracting(PartialExtractionResult::getProjectType).containsOnlyNulls();
+    Assertions.assertThat(expected.getKeys()).isNotEmpty();
+    Assertions.assertThat(merged).isEqualTo(expected);
+  }
+}
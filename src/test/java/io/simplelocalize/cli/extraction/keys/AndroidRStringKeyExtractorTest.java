@@ -0,0 +1,108 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+public class AndroidRStringKeyExtractorTest
+{
+
+  private final AndroidRStringKeyExtractor keyExtractor = new AndroidRStringKeyExtractor();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldExtractReferencesFollowedByAnyToken() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Main.java"), "class Main {\n" +
+            "  void show() {\n" +
+            "    setTitle(R.string.main_title);\n" +
+            "    String text = getString(R.string.welcome_message, userName);\n" +
+            "    int[] ids = {R.string.first_tab,R.string.second_tab};\n" +
+            "    int framework = android.R.string.ok;\n" +
+            "    int other = com.example.app.R.string.qualified_key;\n" +
+            "  }\n" +
+            "}\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("main_title", "welcome_message", "first_tab", "second_tab", "qualified_key");
+  }
+
+  @Test
+  public void shouldSkipCommentsAndStringLiterals() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Main.java"), "class Main {\n" +
+            "  // setTitle(R.string.line_comment);\n" +
+            "  /* R.string.block_comment */\n" +
+            "  String text = \"R.string.string_literal \\\" R.string.escaped\";\n" +
+            "  String block = \"\"\"\n    R.string.text_block\n    \"\"\";\n" +
+            "  char quote = '\"'; int id = R.string.after_literals;\n" +
+            "}\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("after_literals");
+  }
+
+  @Test
+  public void shouldHandleKotlinNestedCommentsAndRawStrings() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Main.kt"), "class Main {\n" +
+            "  /* outer /* R.string.nested_comment */ R.string.still_comment */\n" +
+            "  val raw = \"\"\"C:\\ R.string.raw_string\"\"\"\n" +
+            "  val title = getString(R.string.kotlin_title)\n" +
+            "}\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("kotlin_title");
+  }
+
+  @Test
+  public void shouldExtractReferencesFromKotlinStringTemplates() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Main.kt"), "class Main {\n" +
+            "  val title = \"${getString(R.string.template_title)} R.string.plain_text\"\n" +
+            "  val raw = \"\"\"${resources.getString(R.string.raw_template)}\"\"\"\n" +
+            "  val nested = \"${map[\"}\"] ?: if (ok) { getString(R.string.nested_template) } else \"\"} R.string.after_template\"\n" +
+            "  val next = getString(R.string.after_literal)\n" +
+            "}\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("template_title", "raw_template", "nested_template", "after_literal");
+  }
+
+  @Test
+  public void shouldExtractReferencesFromFileAboveStreamingThreshold() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Large.kt"), "val a = 1\n".repeat(100) + "val title = \"${getString(R.string.large_title)}\"\n");
+    AndroidRStringKeyExtractor streamingExtractor = new AndroidRStringKeyExtractor(ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions().withStreamingThreshold(64).build());
+
+    //when
+    Set<String> keys = streamingExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("large_title");
+  }
+}
@@ -0,0 +1,66 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+public class AndroidXmlKeysExtractorTest
+{
+
+  private final AndroidXmlKeysExtractor keyExtractor = new AndroidXmlKeysExtractor();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldExtractStringReferencesFromAllAttributes() throws Exception
+  {
+    //given
+    Path layout = Files.writeString(directory.resolve("layout.xml"), "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n" +
+            "<LinearLayout xmlns:android=\"http://schemas.android.com/apk/res/android\">\n" +
+            "  <TextView android:text=\"@string/welcome_title\" android:contentDescription=\"@string/welcome_image\"/>\n" +
+            "  <EditText android:hint=\"@string/email_hint\" android:inputType=\"textEmailAddress\"/>\n" +
+            "  <Button android:text=\"@android:string/ok\" android:tooltipText=\"Plain text\"/>\n" +
+            "</LinearLayout>\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(layout);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("welcome_title", "welcome_image", "email_hint");
+  }
+
+  @Test
+  public void shouldExtractMenuTitles() throws Exception
+  {
+    //given
+    Path menu = Files.writeString(directory.resolve("menu.xml"),
+            "<menu xmlns:android=\"http://schemas.android.com/apk/res/android\">" +
+                    "<item android:id=\"@+id/settings\" android:title=\"@string/menu_settings\"/>" +
+                    "</menu>");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(menu);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("menu_settings");
+  }
+
+  @Test
+  public void shouldKeepKeysFoundBeforeMalformedContent() throws Exception
+  {
+    //given
+    Path layout = Files.writeString(directory.resolve("broken.xml"),
+            "<LinearLayout><TextView text=\"@string/first\"/><Button text=\"@string/second\"></LinearLayout>");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(layout);
+
+    //then
+    Assertions.assertThat(keys).contains("first", "second");
+  }
+}
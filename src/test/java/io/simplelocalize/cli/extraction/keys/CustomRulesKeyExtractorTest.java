@@ -0,0 +1,140 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionResultCollector;
+import io.simplelocalize.cli.extraction.ExtractionRule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
+
+public class CustomRulesKeyExtractorTest
+{
+
+  @TempDir
+  Path directory;
+
+  private final List<ExtractionRule> rules = List.of(
+          new ExtractionRule("*.vue", "$tr(", null),
+          new ExtractionRule("src/**/*.ts", "translate(", "translate\\(\\s*\"([^\"]+)\""),
+          new ExtractionRule("*.ts", "i18n.get(", "i18n\\.get\\(key=([A-Z_]+)\\)")
+  );
+
+  @Test
+  public void shouldExtractKeysOfAllRulesMatchingFile() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src").resolve("app"));
+    Path file = Files.writeString(sources.resolve("home.ts"), "translate(\n  \"home.title\");\ni18n.get(key=HOME_DESCRIPTION);\n$tr('not.a.vue.file')");
+    CustomRulesKeyExtractor keyExtractor = new CustomRulesKeyExtractor(rules, ExtractionOptions.defaults());
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(file);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("home.title", "HOME_DESCRIPTION");
+  }
+
+  @Test
+  public void shouldExtractQuotedArgumentAfterTriggerWithoutPattern() throws Exception
+  {
+    //given
+    Path file = Files.writeString(directory.resolve("Home.vue"), "<p>{{ $tr('home.title') }}</p>\n<p>{{ $tr( \"home.description\") }}</p>\n<p>{{ $tr(`home.footer`) }}</p>");
+    CustomRulesKeyExtractor keyExtractor = new CustomRulesKeyExtractor(rules, ExtractionOptions.defaults());
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(file);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("home.title", "home.description", "home.footer");
+  }
+
+  @Test
+  public void shouldExtractKeysFromLargeFileInWindows() throws Exception
+  {
+    //given
+    Path file = Files.writeString(directory.resolve("Home.vue"), "<p>{{ $tr('home.title') }}</p>\n".repeat(100) + "<p>{{ $tr('home.footer') }}</p>");
+    CustomRulesKeyExtractor keyExtractor = new CustomRulesKeyExtractor(rules, anExtractionOptions().withStreamingThreshold(64).build());
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(file);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("home.title", "home.footer");
+  }
+
+  @Test
+  public void shouldNotReuseKeysOfIdenticalFileMatchedByOtherRules() throws Exception
+  {
+    //given
+    String content = "$tr('home.title')\ni18n.get(key=HOME_DESCRIPTION)";
+    Path vueFile = Files.writeString(Files.createDirectories(directory.resolve("a")).resolve("x.vue"), content);
+    Path tsFile = Files.writeString(Files.createDirectories(directory.resolve("b")).resolve("x.ts"), content);
+    CustomRulesKeyExtractor keyExtractor = new CustomRulesKeyExtractor(rules, ExtractionOptions.defaults());
+    ExtractionResultCollector collector = new ExtractionResultCollector();
+
+    //when
+    collector.extract(keyExtractor, List.of(vueFile, tsFile));
+
+    //then
+    Assertions.assertThat(collector.toResult().getKeys()).containsExactlyInAnyOrder("home.title", "HOME_DESCRIPTION");
+  }
+
+  @Test
+  public void shouldMatchTriggerWithWhitespaceAgainstCollapsedText() throws Exception
+  {
+    //given
+    Path file = Files.writeString(directory.resolve("Home.vue"), "<p>{{ t(\n    \"home.title\") }}</p>");
+    List<ExtractionRule> whitespaceRules = List.of(new ExtractionRule("*.vue", "t( \"", "t\\( \"([^\"]+)\""));
+    CustomRulesKeyExtractor keyExtractor = new CustomRulesKeyExtractor(whitespaceRules, ExtractionOptions.defaults());
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(file);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("home.title");
+  }
+
+  @Test
+  public void shouldSkipFilesNotMatchingAnyRule() throws Exception
+  {
+    //given
+    Path file = Files.writeString(directory.resolve("home.js"), "$tr('home.title')");
+    CustomRulesKeyExtractor keyExtractor = new CustomRulesKeyExtractor(rules, ExtractionOptions.defaults());
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(file);
+
+    //then
+    Assertions.assertThat(keyExtractor.isFileToProcess(file)).isFalse();
+    Assertions.assertThat(keys).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectRuleWithoutTrigger()
+  {
+    //when
+    Throwable throwable = Assertions.catchThrowable(() -> new CustomRulesKeyExtractor(List.of(new ExtractionRule("*.vue", null, "t\\('(.+?)'\\)")), ExtractionOptions.defaults()));
+
+    //then
+    Assertions.assertThat(throwable)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Extraction rule must declare 'files' and 'trigger'");
+  }
+
+  @Test
+  public void shouldRejectRuleWithoutKeyGroup()
+  {
+    //when
+    Throwable throwable = Assertions.catchThrowable(() -> new CustomRulesKeyExtractor(List.of(new ExtractionRule("*.vue", "t(", "t\\('[^']+'\\)")), ExtractionOptions.defaults()));
+
+    //then
+    Assertions.assertThat(throwable).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("group");
+  }
+}
@@ -1,12 +1,19 @@
 package io.simplelocalize.cli.extraction.keys;
 
+import io.simplelocalize.cli.io.TextWindows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.Set;
 
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
+
 public class IEighteenNextKeyExtractorTest {
   private final IEighteenNextKeyExtractor keyExtractor = new IEighteenNextKeyExtractor();
 
@@ -33,4 +40,39 @@ public class IEighteenNextKeyExtractorTest {
                     "nameTitleJSX"
             );
   }
+
+  @Test
+  public void shouldExtractSameKeysInStreamingMode() throws Exception {
+    //given
+    ClassLoader classLoader = this.getClass().getClassLoader();
+    Path path = Paths.get(classLoader.getResource("i18next/AboutPage.jsx").getPath());
+    IEighteenNextKeyExtractor streamingKeyExtractor = new IEighteenNextKeyExtractor(anExtractionOptions().withStreamingThreshold(0).build());
+
+    //when
+    Set<String> keys = streamingKeyExtractor.extractKeysFromFile(path);
+
+    //then
+    Assertions.assertThat(keys).isEqualTo(keyExtractor.extractKeysFromFile(path));
+  }
+
+  @Test
+  public void shouldFindKeysAcrossWindowBoundariesInStreamingMode(@TempDir Path directory) throws Exception {
+    //given
+    StringBuilder bundle = new StringBuilder();
+    Set<String> expectedKeys = new HashSet<>();
+    for (int i = 0; i < 30_000; i++) {
+      String key = "bundle.key_" + i;
+      expectedKeys.add(key);
+      bundle.append("var label").append(i).append(" =\n   t('").append(key).append("');\n");
+    }
+    Path file = Files.writeString(directory.resolve("bundle.js"), bundle);
+    IEighteenNextKeyExtractor streamingKeyExtractor = new IEighteenNextKeyExtractor(anExtractionOptions().withStreamingThreshold(0).build());
+
+    //when
+    Set<String> keys = streamingKeyExtractor.extractKeysFromFile(file);
+
+    //then
+    Assertions.assertThat(Files.size(file)).isGreaterThan(TextWindows.DEFAULT_WINDOW_LENGTH);
+    Assertions.assertThat(keys).isEqualTo(expectedKeys);
+  }
 }
@@ -0,0 +1,55 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import com.google.re2j.Pattern;
+import io.simplelocalize.cli.exception.ExtractionTimeoutException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class KeyPatternsTest
+{
+
+  private static final Pattern T_FUNCTION = Pattern.compile("[^a-zA-Z]t\\([\"|'](.*?)[\"|']");
+
+  @Test
+  public void shouldFindAllKeysWithinTimeBudget()
+  {
+    //given
+    String content = " t('first.key') + t(\"second.key\")";
+    Set<String> keys = new HashSet<>();
+
+    //when
+    KeyPatterns.findAll(T_FUNCTION, content, KeyPatterns.fileDeadline(), keys);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("first.key", "second.key");
+  }
+
+  @Test
+  public void shouldFailWhenTimeBudgetIsExceeded()
+  {
+    //given
+    String content = " t('key')".repeat(10_000);
+    long expiredDeadline = System.nanoTime() - 1;
+
+    //when & then
+    Assertions.assertThatThrownBy(() -> KeyPatterns.findAll(T_FUNCTION, content, expiredDeadline, new HashSet<>()))
+            .isInstanceOf(ExtractionTimeoutException.class);
+  }
+
+  @Test
+  public void shouldSkipMatchesWithoutKey()
+  {
+    //given
+    Pattern optionalKey = Pattern.compile("t\\('(\\w+)?'\\)");
+    Set<String> keys = new HashSet<>();
+
+    //when
+    KeyPatterns.findAll(optionalKey, " t('') + t('key')", KeyPatterns.fileDeadline(), keys);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("key");
+  }
+}
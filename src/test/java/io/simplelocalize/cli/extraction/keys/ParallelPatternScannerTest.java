@@ -0,0 +1,58 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import com.google.re2j.Pattern;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class ParallelPatternScannerTest
+{
+
+  private static final Pattern T_FUNCTION = Pattern.compile("[^a-zA-Z]t\\([\"|'](.*?)[\"|']");
+  private static final List<String> TOKENS = List.of(" t('", " t(\"", "'", "\"", "|", "key", ".", " ", ";", "at(", "x");
+
+  @Test
+  public void shouldFindSameKeysAsSequentialScan()
+  {
+    //given
+    Random random = new Random(42);
+    for (int sample = 0; sample < 500; sample++)
+    {
+      StringBuilder text = new StringBuilder();
+      int tokens = 20 + random.nextInt(200);
+      for (int i = 0; i < tokens; i++)
+      {
+        text.append(TOKENS.get(random.nextInt(TOKENS.size())));
+      }
+      String content = text.toString();
+      int segmentLength = 1 + random.nextInt(40);
+
+      Set<String> sequentialKeys = new HashSet<>();
+      Set<String> parallelKeys = new HashSet<>();
+
+      //when
+      KeyPatterns.findAll(T_FUNCTION, content, KeyPatterns.fileDeadline(), sequentialKeys);
+      ParallelPatternScanner.findAll(T_FUNCTION, content, segmentLength, KeyPatterns.fileDeadline(), parallelKeys);
+
+      //then
+      Assertions.assertThat(parallelKeys).as("segment length %d in: %s", segmentLength, content).isEqualTo(sequentialKeys);
+    }
+  }
+
+  @Test
+  public void shouldSplitAfterTokenSeparators()
+  {
+    //given
+    String content = "aaaa bbbb;cccc dddd";
+
+    //when
+    List<Integer> boundaries = ParallelPatternScanner.segmentBoundaries(content, 4);
+
+    //then
+    Assertions.assertThat(boundaries).containsExactly(0, 5, 10, 15, 19);
+  }
+}
@@ -0,0 +1,94 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+public class SwiftStringKeyExtractorTest
+{
+
+  private final SwiftStringKeyExtractor keyExtractor = new SwiftStringKeyExtractor();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldExtractKeysFromAllLocalizationCallSites() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("ContentView.swift"), "import SwiftUI\n" +
+            "struct ContentView: View {\n" +
+            "  let title = NSLocalizedString(\"screen.title\", comment: \"Title\")\n" +
+            "  let subtitle = String(localized: \"screen.subtitle\")\n" +
+            "  let key = LocalizedStringKey(\"screen.key\")\n" +
+            "  var body: some View {\n" +
+            "    Text(\"screen.body\")\n" +
+            "    Text(verbatim: \"not.a.key\")\n" +
+            "    Text(name)\n" +
+            "  }\n" +
+            "}\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("screen.title", "screen.subtitle", "screen.key", "screen.body");
+  }
+
+  @Test
+  public void shouldReadEscapesAndSkipComments() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Labels.swift"), "" +
+            "// Text(\"line.comment\")\n" +
+            "/* outer /* Text(\"nested.comment\") */ NSLocalizedString(\"block.comment\") */\n" +
+            "let quoted = NSLocalizedString(\"Say \\\"hi\\\"\\u{1F600}\", comment: \"\")\n" +
+            "let raw = Text(#\"Path \\d+\"#)\n" +
+            "let interpolated = Text(\"Hello \\(user.name(\"x\"))\")\n" +
+            "let afterInterpolation = Text(\"after\")\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("Say \"hi\"\uD83D\uDE00", "Path \\d+", "after");
+  }
+
+  @Test
+  public void shouldExtractMultiLineStringWithoutIndentation() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Onboarding.swift"), "" +
+            "let message = String(localized: \"\"\"\n" +
+            "    First line\n" +
+            "      indented \\\n" +
+            "    continued\n" +
+            "    \"\"\")\n" +
+            "let next = Text(\"next\")\n");
+
+    //when
+    Set<String> keys = keyExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactlyInAnyOrder("First line\n  indented continued", "next");
+  }
+
+  @Test
+  public void shouldExtractKeysFromFileAboveStreamingThreshold() throws Exception
+  {
+    //given
+    Path source = Files.writeString(directory.resolve("Large.swift"), "let a = 1\n".repeat(100) + "Text(\"screen.body\")\n");
+    SwiftStringKeyExtractor streamingExtractor = new SwiftStringKeyExtractor(ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions().withStreamingThreshold(64).build());
+
+    //when
+    Set<String> keys = streamingExtractor.extractKeysFromFile(source);
+
+    //then
+    Assertions.assertThat(keys).containsExactly("screen.body");
+  }
+}
@@ -0,0 +1,86 @@
+package io.simplelocalize.cli.extraction.keys;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class TriggerPrefilterTest
+{
+
+  @Test
+  public void shouldMatchWhenContentContainsAnyToken()
+  {
+    //given
+    TriggerPrefilter prefilter = TriggerPrefilter.anyOf("i18nKey=", "t('");
+    byte[] content = "const label = t('ŻÓŁW.title');".getBytes(StandardCharsets.UTF_8);
+
+    //when
+    boolean result = prefilter.matches(content);
+
+    //then
+    Assertions.assertThat(result).isTrue();
+  }
+
+  @Test
+  public void shouldNotMatchWhenContentHasNoToken()
+  {
+    //given
+    TriggerPrefilter prefilter = TriggerPrefilter.anyOf("i18nKey=", "t('");
+    byte[] content = "import React from 'react';\nconst value = items.join(',');".getBytes(StandardCharsets.UTF_8);
+
+    //when
+    boolean result = prefilter.matches(content);
+
+    //then
+    Assertions.assertThat(result).isFalse();
+  }
+
+  @Test
+  public void shouldMatchTokenSplitByWhitespaceWhenIgnoringWhitespace()
+  {
+    //given
+    TriggerPrefilter exact = TriggerPrefilter.anyOf("<%=i18n.");
+    TriggerPrefilter ignoringWhitespace = TriggerPrefilter.anyOfIgnoringWhitespace("<%=i18n.");
+    byte[] content = "<p><%= i18n.\n  confirm.title %></p>".getBytes(StandardCharsets.UTF_8);
+
+    //when
+    boolean exactResult = exact.matches(content);
+    boolean ignoringWhitespaceResult = ignoringWhitespace.matches(content);
+
+    //then
+    Assertions.assertThat(exactResult).isFalse();
+    Assertions.assertThat(ignoringWhitespaceResult).isTrue();
+  }
+
+  @Test
+  public void shouldNotMatchTokenCutAtEndOfContent()
+  {
+    //given
+    TriggerPrefilter prefilter = TriggerPrefilter.anyOfIgnoringWhitespace("defineMessages({");
+    byte[] content = "defineMessages( ".getBytes(StandardCharsets.UTF_8);
+
+    //when
+    boolean result = prefilter.matches(content);
+
+    //then
+    Assertions.assertThat(result).isFalse();
+  }
+
+  @Test
+  public void shouldMatchWhitespaceOfTokenWithAnyWhitespaceRunWhenCollapsingWhitespace()
+  {
+    //given
+    TriggerPrefilter prefilter = TriggerPrefilter.anyOfCollapsingWhitespace("t( \"");
+    byte[] split = "label = t(\n    \"home.title\")".getBytes(StandardCharsets.UTF_8);
+    byte[] joined = "label = t(\"home.title\")".getBytes(StandardCharsets.UTF_8);
+
+    //when
+    boolean splitResult = prefilter.matches(split);
+    boolean joinedResult = prefilter.matches(joined);
+
+    //then
+    Assertions.assertThat(splitResult).isTrue();
+    Assertions.assertThat(joinedResult).isFalse();
+  }
+}
@@ -0,0 +1,55 @@
+package io.simplelocalize.cli.extraction.processor;
+
+import io.simplelocalize.cli.TestResourcesUtility;
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionResult;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class MultiProjectProcessorTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldExtractKeysOfAllProjectTypesInOneWalk() throws Exception
+  {
+    //given
+    Path path = TestResourcesUtility.read("");
+    AndroidProcessor androidProcessor = new AndroidProcessor();
+    iOSProcessor iosProcessor = new iOSProcessor();
+    YahooReactIntlProcessor reactIntlProcessor = new YahooReactIntlProcessor();
+    MultiProjectProcessor processor = new MultiProjectProcessor(List.of(androidProcessor, iosProcessor, reactIntlProcessor), ExtractionOptions.defaults());
+
+    //when
+    ExtractionResult result = processor.process(path);
+
+    //then
+    ExtractionResult expected = ExtractionResult.merge(ExtractionResult.merge(androidProcessor.process(path), iosProcessor.process(path)), reactIntlProcessor.process(path));
+    Assertions.assertThat(result.getKeys()).isEqualTo(expected.getKeys());
+    Assertions.assertThat(result.getProcessedFiles()).containsExactlyInAnyOrderElementsOf(expected.getProcessedFiles());
+    Assertions.assertThat(result.getKeys()).contains("bear");
+    Assertions.assertThat(processor.getProjectTypeSupport()).isEqualTo("google/android,apple/ios-macos,yahoo/react-intl");
+  }
+
+  @Test
+  public void shouldReportFileOfSeveralProjectTypesOnce() throws Exception
+  {
+    //given
+    Path home = Files.writeString(directory.resolve("Home.js"), "<FormattedMessage id=\"react.title\" />\nt('next.title');\n");
+    MultiProjectProcessor processor = new MultiProjectProcessor(List.of(new YahooReactIntlProcessor(), new IEighteenNextProcessor()), ExtractionOptions.defaults());
+
+    //when
+    ExtractionResult result = processor.process(directory);
+
+    //then
+    Assertions.assertThat(result.getKeys()).containsExactlyInAnyOrder("react.title", "next.title");
+    Assertions.assertThat(result.getProcessedFiles()).containsExactly(home);
+  }
+}
@@ -0,0 +1,178 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+public class KeyUsageIndexerTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldFindKeyOccurrences() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Path home = Files.writeString(sources.resolve("Home.js"), "const title = t('home.title');\n\nrender(t('home.description'), t('home.title'));\n");
+    Path about = Files.writeString(sources.resolve("About.js"), " t('about.title')\n");
+    KeyUsageIndexer indexer = new KeyUsageIndexer(directory.resolve("index.idx"), "i18next/i18next", ExtractionOptions.defaults());
+
+    //when
+    KeyUsageIndex index = indexer.refresh(sources);
+
+    //then
+    Assertions.assertThat(index.getFileCount()).isEqualTo(2);
+    Assertions.assertThat(index.findOccurrences("home.title")).containsExactly(
+            new KeyOccurrence("home.title", home.toString(), 1, 18),
+            new KeyOccurrence("home.title", home.toString(), 3, 34)
+    );
+    Assertions.assertThat(index.findOccurrences("about.title")).containsExactly(new KeyOccurrence("about.title", about.toString(), 1, 5));
+    Assertions.assertThat(index.findOccurrences("home")).isEmpty();
+    Assertions.assertThat(index.findKeys("home.")).containsExactly("home.description", "home.title");
+    Assertions.assertThat(index.findKeys("")).containsExactly("about.title", "home.description", "home.title");
+    Assertions.assertThat(index.findKeys("contact")).isEmpty();
+  }
+
+  @Test
+  public void shouldRefreshOnlyChangedFiles() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Path unchanged = Files.writeString(sources.resolve("Unchanged.js"), " t('unchanged')");
+    Path changed = Files.writeString(sources.resolve("Changed.js"), " t('before')");
+    Path removed = Files.writeString(sources.resolve("Removed.js"), " t('removed')");
+    Path indexPath = directory.resolve("index.idx");
+    KeyUsageIndexer indexer = new KeyUsageIndexer(indexPath, "i18next/i18next", ExtractionOptions.defaults());
+    indexer.refresh(sources);
+
+    //when
+    Files.writeString(changed, "\n  t('after')");
+    Files.setLastModifiedTime(changed, FileTime.fromMillis(Files.getLastModifiedTime(changed).toMillis() + 2000));
+    Files.delete(removed);
+    Files.writeString(sources.resolve("Added.js"), " t('added')");
+    FileTime unchangedModified = Files.getLastModifiedTime(unchanged);
+    Files.writeString(unchanged, " t('UNCHANGED')");
+    Files.setLastModifiedTime(unchanged, unchangedModified);
+    KeyUsageIndex index = indexer.refresh(sources);
+
+    //then
+    Assertions.assertThat(index.findKeys("")).containsExactly("added", "after", "unchanged");
+    Assertions.assertThat(index.findOccurrences("after")).containsExactly(new KeyOccurrence("after", changed.toString(), 2, 6));
+    Assertions.assertThat(index.getFileCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldMergeOccurrencesOfKeptAndExtractedFiles() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Path first = Files.writeString(sources.resolve("A.js"), " t('shared'); t('first')");
+    Path changed = Files.writeString(sources.resolve("C.js"), " t('changed')");
+    Path last = Files.writeString(sources.resolve("E.js"), " t('shared')");
+    KeyUsageIndexer indexer = new KeyUsageIndexer(directory.resolve("index.idx"), "i18next/i18next", ExtractionOptions.defaults());
+    indexer.refresh(sources);
+
+    //when
+    Files.writeString(changed, "\n t('shared')");
+    Files.setLastModifiedTime(changed, FileTime.fromMillis(Files.getLastModifiedTime(changed).toMillis() + 2000));
+    Path added = Files.writeString(sources.resolve("B.js"), " t('shared'); t('zebra')");
+    KeyUsageIndex index = indexer.refresh(sources);
+
+    //then
+    Assertions.assertThat(index.findKeys("")).containsExactly("first", "shared", "zebra");
+    Assertions.assertThat(index.findOccurrences("shared")).containsExactly(
+            new KeyOccurrence("shared", first.toString(), 1, 5),
+            new KeyOccurrence("shared", added.toString(), 1, 5),
+            new KeyOccurrence("shared", changed.toString(), 2, 5),
+            new KeyOccurrence("shared", last.toString(), 1, 5)
+    );
+    Assertions.assertThat(index.findOccurrences("first")).containsExactly(new KeyOccurrence("first", first.toString(), 1, 18));
+    Assertions.assertThat(index.findOccurrences("changed")).isEmpty();
+  }
+
+  @Test
+  public void shouldIndexKeysOfAllExtractorsOfFile() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Path home = Files.writeString(sources.resolve("Home.js"), "<FormattedMessage id=\"react.title\" />\nt('next.title');\n");
+    Path indexPath = directory.resolve("index.idx");
+    KeyUsageIndexer indexer = new KeyUsageIndexer(indexPath, "yahoo/react-intl,i18next/i18next", ExtractionOptions.defaults());
+    indexer.refresh(sources);
+    FileTime indexModified = Files.getLastModifiedTime(indexPath);
+    Files.setLastModifiedTime(indexPath, FileTime.fromMillis(indexModified.toMillis() - 2000));
+
+    //when
+    KeyUsageIndex index = indexer.refresh(sources);
+
+    //then
+    Assertions.assertThat(index.getFileCount()).isEqualTo(1);
+    Assertions.assertThat(index.findKeys("")).containsExactly("next.title", "react.title");
+    Assertions.assertThat(index.findOccurrences("react.title")).containsExactly(new KeyOccurrence("react.title", home.toString(), 1, 23));
+    Assertions.assertThat(index.findOccurrences("next.title")).containsExactly(new KeyOccurrence("next.title", home.toString(), 2, 4));
+    Assertions.assertThat(Files.getLastModifiedTime(indexPath).toMillis()).isEqualTo(indexModified.toMillis() - 2000);
+  }
+
+  @Test
+  public void shouldAnswerFromIndexWithoutRefresh() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Path home = Files.writeString(sources.resolve("Home.js"), " t('home')");
+    KeyUsageIndexer indexer = new KeyUsageIndexer(directory.resolve("index.idx"), "i18next/i18next", ExtractionOptions.defaults());
+    KeyUsageIndex builtIndex = indexer.open(sources);
+    Files.writeString(sources.resolve("About.js"), " t('about')");
+
+    //when
+    KeyUsageIndex index = indexer.open(sources);
+    KeyUsageIndex refreshedIndex = indexer.refresh(sources);
+
+    //then
+    Assertions.assertThat(builtIndex.findOccurrences("home")).containsExactly(new KeyOccurrence("home", home.toString(), 1, 5));
+    Assertions.assertThat(index.findKeys("")).containsExactly("home");
+    Assertions.assertThat(refreshedIndex.findKeys("")).containsExactly("about", "home");
+  }
+
+  @Test
+  public void shouldRebuildIndexOfOtherProjectType() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Files.writeString(sources.resolve("Home.js"), " t('home')");
+    Path indexPath = directory.resolve("index.idx");
+    new KeyUsageIndexer(indexPath, "yahoo/react-intl", ExtractionOptions.defaults()).refresh(sources);
+
+    //when
+    KeyUsageIndex index = new KeyUsageIndexer(indexPath, "i18next/i18next", ExtractionOptions.defaults()).refresh(sources);
+
+    //then
+    Assertions.assertThat(index.getProjectType()).isEqualTo("i18next/i18next");
+    Assertions.assertThat(index.findKeys("")).containsExactly("home");
+  }
+
+  @Test
+  public void shouldLocateKeysOutsideOfLongerKeys()
+  {
+    //given
+    String text = "t('home.title')\nt(\"home\")\nR.string.home";
+
+    //when
+    List<KeyOccurrence> occurrences = KeyOccurrenceLocator.locate(text, Set.of("home", "missing"), "File.js");
+
+    //then
+    Assertions.assertThat(occurrences).containsExactlyInAnyOrder(
+            new KeyOccurrence("home", "File.js", 2, 4),
+            new KeyOccurrence("home", "File.js", 3, 10),
+            new KeyOccurrence("missing", "File.js", 0, 0)
+    );
+  }
+}
@@ -0,0 +1,77 @@
+package io.simplelocalize.cli.extraction.usage;
+
+import io.simplelocalize.cli.extraction.ExtractionOptions;
+import io.simplelocalize.cli.extraction.ExtractionResult;
+import io.simplelocalize.cli.extraction.ProjectProcessorFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static io.simplelocalize.cli.extraction.ExtractionOptions.ExtractionOptionsBuilder.anExtractionOptions;
+
+public class NdjsonKeysWriterTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldWriteKeyOfEveryFileWithoutRetainingThem() throws Exception
+  {
+    //given
+    Path sources = Files.createDirectories(directory.resolve("src"));
+    Path home = Files.writeString(sources.resolve("Home.js"), " t('home.title');\n t('home.description');\n");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    NdjsonKeysWriter keysWriter = new NdjsonKeysWriter(outputStream, false, Long.MAX_VALUE);
+    ExtractionOptions extractionOptions = anExtractionOptions()
+            .withFileKeysListener(keysWriter)
+            .withKeysRetained(false)
+            .build();
+
+    //when
+    ExtractionResult result = new ProjectProcessorFactory()
+            .createForType("i18next/i18next", extractionOptions)
+            .process(sources);
+    keysWriter.close();
+
+    //then
+    Assertions.assertThat(result.getKeys()).isEmpty();
+    Assertions.assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+            "{\"key\":\"home.description\",\"file\":" + jsonString(home) + "}",
+            "{\"key\":\"home.title\",\"file\":" + jsonString(home) + "}"
+    );
+    Assertions.assertThat(keysWriter.getWrittenRecords()).isEqualTo(2);
+    Assertions.assertThat(keysWriter.getWrittenFiles()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldWriteLocationOfEveryOccurrence() throws Exception
+  {
+    //given
+    Path home = Files.writeString(directory.resolve("Home.js"), "const title = t('home.title');\n\nrender(t('home.title'));\n");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    //when
+    try (NdjsonKeysWriter keysWriter = new NdjsonKeysWriter(outputStream, true, Long.MAX_VALUE))
+    {
+      keysWriter.onFileKeys(home, Set.of("home.title"));
+    }
+
+    //then
+    Assertions.assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+            "{\"key\":\"home.title\",\"file\":" + jsonString(home) + ",\"line\":1,\"column\":18}",
+            "{\"key\":\"home.title\",\"file\":" + jsonString(home) + ",\"line\":3,\"column\":11}"
+    );
+  }
+
+  private static String jsonString(Path path)
+  {
+    return "\"" + path.toString().replace("\\", "\\\\") + "\"";
+  }
+}
@@ -0,0 +1,102 @@
+package io.simplelocalize.cli.io;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DirectoryCrawlerTest
+{
+
+  private final DirectoryCrawler directoryCrawler = new DirectoryCrawler(4);
+
+  @TempDir
+  Path root;
+
+  @Test
+  public void shouldFindFilesSortedByPath() throws Exception
+  {
+    //given
+    Path first = createFile("a/b/c/first.js");
+    Path second = createFile("a/second.js");
+    Path third = createFile("z/third.js");
+    createFile("z/ignored.txt");
+
+    //when
+    List<Path> files = directoryCrawler.findFiles(root, path -> path.toString().endsWith(".js"));
+
+    //then
+    Assertions.assertThat(files).containsExactly(first, second, third);
+  }
+
+  @Test
+  public void shouldNotListRejectedDirectories() throws Exception
+  {
+    //given
+    Path component = createFile("src/component.js");
+    createFile("node_modules/library/index.js");
+
+    //when
+    List<Path> files = directoryCrawler.findFiles(root, Integer.MAX_VALUE,
+            directory -> !directory.endsWith("node_modules"),
+            path -> true);
+
+    //then
+    Assertions.assertThat(files).containsExactly(component);
+  }
+
+  @Test
+  public void shouldRespectMaxDepth() throws Exception
+  {
+    //given
+    Path shallow = createFile("en/messages.json");
+    createFile("en/nested/deep/messages.json");
+
+    //when
+    List<Path> files = directoryCrawler.findFiles(root, 2, directory -> true, path -> true);
+
+    //then
+    Assertions.assertThat(files).containsExactly(shallow);
+  }
+
+  @Test
+  public void shouldStreamAllFilesToConsumer() throws Exception
+  {
+    //given
+    for (int i = 0; i < 50; i++)
+    {
+      createFile("dir" + (i % 7) + "/sub" + (i % 3) + "/file" + i + ".txt");
+    }
+    Set<Path> consumed = ConcurrentHashMap.newKeySet();
+
+    //when
+    directoryCrawler.crawl(root, Integer.MAX_VALUE, directory -> true, consumed::add);
+
+    //then
+    Assertions.assertThat(consumed).hasSize(50);
+  }
+
+  @Test
+  public void shouldThrowWhenRootNotFound()
+  {
+    //given
+    Path missing = root.resolve("missing");
+
+    //when & then
+    Assertions.assertThatThrownBy(() -> directoryCrawler.findFiles(missing, path -> true))
+            .isInstanceOf(NoSuchFileException.class);
+  }
+
+  private Path createFile(String relativePath) throws Exception
+  {
+    Path file = root.resolve(relativePath);
+    Files.createDirectories(file.getParent());
+    return Files.writeString(file, relativePath);
+  }
+}
@@ -0,0 +1,56 @@
+package io.simplelocalize.cli.io;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+public class FileContentTest
+{
+
+  private static final String TEXT = "  <FormattedMessage\n\tid=\"title\"\r\n\u000B\f/>  ";
+
+  @Test
+  public void shouldNormalizeWhitespacesLikeRegex()
+  {
+    //given
+    FileContent fileContent = FileContent.of(Path.of("component.jsx"), TEXT.getBytes(StandardCharsets.UTF_8));
+
+    //when
+    String oneLineText = fileContent.getOneLineText();
+    String textWithoutWhitespaces = fileContent.getTextWithoutWhitespaces();
+
+    //then
+    Assertions.assertThat(oneLineText).isEqualTo(TEXT.replace("\n", " ").replaceAll("\\s+", " "));
+    Assertions.assertThat(textWithoutWhitespaces).isEqualTo(TEXT.replaceAll("\\s+", ""));
+  }
+
+  @Test
+  public void shouldComputeEachFormOnce()
+  {
+    //given
+    FileContent fileContent = FileContent.of(Path.of("component.jsx"), TEXT.getBytes(StandardCharsets.UTF_8));
+
+    //when
+    String first = fileContent.getOneLineText();
+    fileContent.getTextWithoutWhitespaces();
+    String second = fileContent.getOneLineText();
+
+    //then
+    Assertions.assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void shouldNormalizeTextLongerThanBuffer()
+  {
+    //given
+    String text = "key \n ".repeat(10_000);
+
+    //when
+    String result = FileContent.collapseWhitespaces(text);
+
+    //then
+    Assertions.assertThat(result).isEqualTo("key ".repeat(10_000));
+  }
+}
@@ -0,0 +1,56 @@
+package io.simplelocalize.cli.io;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TextWindowsTest
+{
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldSplitTextIntoOverlappingWindows() throws Exception
+  {
+    //given
+    Path file = Files.writeString(directory.resolve("file.txt"), "abcdefghijklmnopqrstuvwxyz");
+    List<String> windows = new ArrayList<>();
+    StringBuilder ownedText = new StringBuilder();
+
+    //when
+    TextWindows.forEachWindow(file, TextWindows.Whitespaces.KEEP, 10, 3, (window, ownedLength) -> {
+      windows.add(window.toString());
+      ownedText.append(window, 0, ownedLength);
+    });
+
+    //then
+    Assertions.assertThat(windows).containsExactly("abcdefghij", "hijklmnopq", "opqrstuvwx", "vwxyz");
+    Assertions.assertThat(ownedText.toString()).isEqualTo("abcdefghijklmnopqrstuvwxyz");
+  }
+
+  @Test
+  public void shouldNormalizeWhitespacesAcrossWindows() throws Exception
+  {
+    //given
+    String text = "first \n\t  second\r\n\r\nthird   fourth\n";
+    Path file = Files.writeString(directory.resolve("file.txt"), text);
+    StringBuilder collapsed = new StringBuilder();
+    StringBuilder removed = new StringBuilder();
+
+    //when
+    TextWindows.forEachWindow(file, TextWindows.Whitespaces.COLLAPSE, 4, 1, (window, ownedLength) -> collapsed.append(window, 0, ownedLength));
+    TextWindows.forEachWindow(file, TextWindows.Whitespaces.REMOVE, 4, 1, (window, ownedLength) -> removed.append(window, 0, ownedLength));
+
+    //then
+    FileContent fileContent = FileContent.of(file, text.getBytes(StandardCharsets.UTF_8));
+    Assertions.assertThat(collapsed.toString()).isEqualTo(fileContent.getOneLineText());
+    Assertions.assertThat(removed.toString()).isEqualTo(fileContent.getTextWithoutWhitespaces());
+  }
+}